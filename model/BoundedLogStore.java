@@ -0,0 +1,265 @@
+package model;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+
+// Retención acotada: por cada filtro solo se conservan los últimos eventos en un
+// buffer circular preasignado. Los que salen se descartan o, si hay archivo de
+// desborde, se agregan comprimidos para consultarlos después.
+// Cada filtro tiene además una cola por partición con sus eventos retenidos: el
+// que sale del filtro es siempre el más antiguo de la cola de su partición.
+public class BoundedLogStore implements LogStore {
+    private int capacity;
+    private Log[][] rings;
+    private long[][] sequences;     // Orden de llegada de cada evento, para unir los filtros
+    private int[] heads;
+    private int[] sizes;
+    private long sequence;
+    private long dropped;
+    private LogSpillFile spillFile; // null: los eventos que salen se descartan
+    private EnumMap<Filter, HashMap<Integer, LogQueue>> logsByFilterAndPartition;
+    private volatile Log[] merged;  // Todos los retenidos en orden de llegada (null: cambió desde la última unión)
+
+    public BoundedLogStore(int capacity, LogSpillFile spillFile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad por filtro debe ser positiva");
+        }
+        this.capacity = capacity;
+        this.spillFile = spillFile;
+        int filterCount = Filter.values().length;
+        rings = new Log[filterCount][capacity];
+        sequences = new long[filterCount][capacity];
+        heads = new int[filterCount];
+        sizes = new int[filterCount];
+        sequence = 0;
+        dropped = 0;
+        logsByFilterAndPartition = new EnumMap<>(Filter.class);
+        for (Filter filter : Filter.values()) {
+            logsByFilterAndPartition.put(filter, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void add(Log log) {
+        merged = null;
+        int filter = log.getFilter().ordinal();
+        int slot;
+        if (sizes[filter] < capacity) {
+            slot = (heads[filter] + sizes[filter]) % capacity;
+            sizes[filter]++;
+        } else {
+            // Lleno: el más antiguo sale y su lugar lo toma el nuevo
+            slot = heads[filter];
+            Log oldest = rings[filter][slot];
+            if (spillFile != null) {
+                spillFile.append(oldest);
+            } else {
+                dropped++;
+            }
+            if (oldest.getPartitionId() >= 0) {
+                HashMap<Integer, LogQueue> byPartition = logsByFilterAndPartition.get(oldest.getFilter());
+                LogQueue queue = byPartition.get(oldest.getPartitionId());
+                queue.removeFirst();
+                if (queue.size() == 0) {
+                    byPartition.remove(oldest.getPartitionId());
+                }
+            }
+            heads[filter] = (heads[filter] + 1) % capacity;
+        }
+        rings[filter][slot] = log;
+        sequences[filter][slot] = sequence++;
+        if (log.getPartitionId() >= 0) {
+            logsByFilterAndPartition.get(log.getFilter())
+                    .computeIfAbsent(log.getPartitionId(), id -> new LogQueue())
+                    .addLast(log);
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        if (spillFile != null) {
+            spillFile.flush();
+        }
+    }
+
+    // Vista de solo lectura de los últimos eventos de un filtro, del más antiguo al más nuevo
+    @Override
+    public List<Log> getByFilter(Filter filter) {
+        int index = filter.ordinal();
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int i) {
+                if (i < 0 || i >= sizes[index]) {
+                    throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + sizes[index]);
+                }
+                return rings[index][(heads[index] + i) % capacity];
+            }
+
+            @Override
+            public int size() {
+                return sizes[index];
+            }
+        };
+    }
+
+    // Vista de solo lectura de los eventos retenidos de un filtro en una partición
+    @Override
+    public List<Log> getByFilterAndPartition(Filter filter, int partitionId) {
+        HashMap<Integer, LogQueue> byPartition = logsByFilterAndPartition.get(filter);
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int i) {
+                LogQueue queue = byPartition.get(partitionId);
+                if (i < 0 || queue == null || i >= queue.size()) {
+                    throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + size());
+                }
+                return queue.get(i);
+            }
+
+            @Override
+            public int size() {
+                LogQueue queue = byPartition.get(partitionId);
+                return queue == null ? 0 : queue.size();
+            }
+        };
+    }
+
+    // Vista de solo lectura de los eventos retenidos de todos los filtros, en orden
+    // de llegada. La unión de los filtros se arma al leerla y se reutiliza hasta
+    // el próximo evento (un resultado terminado la arma una sola vez).
+    @Override
+    public List<Log> getAll() {
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int i) {
+                Log[] logs = mergedLogs();
+                if (i < 0 || i >= logs.length) {
+                    throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + logs.length);
+                }
+                return logs[i];
+            }
+
+            @Override
+            public int size() {
+                return BoundedLogStore.this.size();
+            }
+        };
+    }
+
+    private Log[] mergedLogs() {
+        Log[] logs = merged;
+        if (logs == null) {
+            logs = merge();
+            merged = logs;
+        }
+        return logs;
+    }
+
+    private Log[] merge() {
+        int filterCount = rings.length;
+        int[] next = new int[filterCount];
+        Log[] logs = new Log[size()];
+        int count = 0;
+        while (true) {
+            int oldest = -1;
+            long oldestSequence = Long.MAX_VALUE;
+            for (int filter = 0; filter < filterCount; filter++) {
+                if (next[filter] < sizes[filter]) {
+                    long s = sequences[filter][(heads[filter] + next[filter]) % capacity];
+                    if (s < oldestSequence) {
+                        oldestSequence = s;
+                        oldest = filter;
+                    }
+                }
+            }
+            if (oldest == -1) {
+                return logs;
+            }
+            logs[count++] = rings[oldest][(heads[oldest] + next[oldest]) % capacity];
+            next[oldest]++;
+        }
+    }
+
+    @Override
+    public int size() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    // Eventos que salieron de la retención y se guardaron en el archivo de desborde
+    public List<Log> getSpilled(Filter filter) throws IOException {
+        return spillFile != null ? spillFile.read(filter) : Collections.emptyList();
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    public LogSpillFile getSpillFile() {
+        return spillFile;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void clear() {
+        for (int filter = 0; filter < rings.length; filter++) {
+            Arrays.fill(rings[filter], null);
+            heads[filter] = 0;
+            sizes[filter] = 0;
+        }
+        sequence = 0;
+        dropped = 0;
+        merged = null;
+        for (HashMap<Integer, LogQueue> byPartition : logsByFilterAndPartition.values()) {
+            byPartition.clear();
+        }
+        if (spillFile != null) {
+            spillFile.clear();
+        }
+    }
+
+    // Cola circular que crece: los eventos retenidos de un filtro en una partición
+    private static final class LogQueue {
+        private Log[] logs = new Log[4];
+        private int head;
+        private int size;
+
+        void addLast(Log log) {
+            if (size == logs.length) {
+                Log[] grown = new Log[logs.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = logs[(head + i) % logs.length];
+                }
+                logs = grown;
+                head = 0;
+            }
+            logs[(head + size) % logs.length] = log;
+            size++;
+        }
+
+        void removeFirst() {
+            logs[head] = null;
+            head = (head + 1) % logs.length;
+            size--;
+        }
+
+        Log get(int index) {
+            return logs[(head + index) % logs.length];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
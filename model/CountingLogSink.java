@@ -0,0 +1,34 @@
+package model;
+
+import java.util.Arrays;
+
+// Sink que solo cuenta eventos por filtro, sin retener los logs
+public class CountingLogSink implements LogSink {
+    private long[] countByFilter;
+    private long total;
+
+    public CountingLogSink() {
+        countByFilter = new long[Filter.values().length];
+        total = 0;
+    }
+
+    @Override
+    public void accept(Log log) {
+        countByFilter[log.getFilter().ordinal()]++;
+        total++;
+    }
+
+    @Override
+    public void runStarted() {
+        Arrays.fill(countByFilter, 0);
+        total = 0;
+    }
+
+    public long getCount(Filter filter) {
+        return countByFilter[filter.ordinal()];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,57 @@
+package model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Sink que escribe cada evento como una línea separada por ';' en un archivo
+public class FileLogSink implements LogSink, AutoCloseable {
+    private static final String HEADER = "filtro;proceso;tiempo;estado;tamaño;partición;ciclo";
+
+    private BufferedWriter writer;
+
+    public FileLogSink(Path path) throws IOException {
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.newLine();
+    }
+
+    @Override
+    public void accept(Log log) {
+        try {
+            writer.write(log.getFilter().name());
+            writer.write(';');
+            writer.write(log.getProcessName());
+            writer.write(';');
+            writer.write(Long.toString(log.getRemainingTime()));
+            writer.write(';');
+            writer.write(log.getStatus().name());
+            writer.write(';');
+            writer.write(Long.toString(log.getSize()));
+            writer.write(';');
+            writer.write(log.getPartitionName());
+            writer.write(';');
+            writer.write(Integer.toString(log.getCycleCount()));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
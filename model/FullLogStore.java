@@ -0,0 +1,73 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+
+// Almacén de todos los logs, separado por filtro al momento de agregarlos: cada
+// informe es una vista de su propia lista, sin recorrer ni copiar los demás
+// eventos. Un segundo índice agrupa cada filtro por id de partición.
+public class FullLogStore implements LogStore {
+    private ArrayList<Log> allLogs;                  // Todos los eventos, en orden
+    private EnumMap<Filter, ArrayList<Log>> logsByFilter;
+    private EnumMap<Filter, HashMap<Integer, ArrayList<Log>>> logsByFilterAndPartition;
+
+    public FullLogStore() {
+        allLogs = new ArrayList<>();
+        logsByFilter = new EnumMap<>(Filter.class);
+        logsByFilterAndPartition = new EnumMap<>(Filter.class);
+        for (Filter filter : Filter.values()) {
+            logsByFilter.put(filter, new ArrayList<>());
+            logsByFilterAndPartition.put(filter, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void add(Log log) {
+        allLogs.add(log);
+        logsByFilter.get(log.getFilter()).add(log);
+
+        if (log.getPartitionId() >= 0) {
+            logsByFilterAndPartition.get(log.getFilter())
+                    .computeIfAbsent(log.getPartitionId(), id -> new ArrayList<>())
+                    .add(log);
+        }
+    }
+
+    // Vista de solo lectura de los logs de un filtro
+    @Override
+    public List<Log> getByFilter(Filter filter) {
+        return Collections.unmodifiableList(logsByFilter.get(filter));
+    }
+
+    // Vista de solo lectura de los logs de un filtro en una partición
+    @Override
+    public List<Log> getByFilterAndPartition(Filter filter, int partitionId) {
+        ArrayList<Log> logs = logsByFilterAndPartition.get(filter).get(partitionId);
+        return logs == null ? Collections.emptyList() : Collections.unmodifiableList(logs);
+    }
+
+    // Vista de solo lectura de todos los logs en orden de llegada
+    @Override
+    public List<Log> getAll() {
+        return Collections.unmodifiableList(allLogs);
+    }
+
+    @Override
+    public int size() {
+        return allLogs.size();
+    }
+
+    @Override
+    public void clear() {
+        allLogs.clear();
+        for (ArrayList<Log> logs : logsByFilter.values()) {
+            logs.clear();
+        }
+        for (HashMap<Integer, ArrayList<Log>> logsByPartition : logsByFilterAndPartition.values()) {
+            logsByPartition.clear();
+        }
+    }
+}
@@ -1,30 +1,46 @@
 package model;
 
+// Registro compacto: solo primitivos e ids. Los nombres y el historial de
+// particiones se resuelven con el LogContext de la corrida al mostrarse.
 public class Log {
-    private String processName;
+    private static final Status[] STATUSES = Status.values();
+    private static final Filter[] FILTERS = Filter.values();
+
+    private LogContext context;
+    private int processId;
+    private int partitionId;
     private long remainingTime;
-    private Status status;
     private long size;
-    private Partition partition;
-    private Filter filter;
     private int cycleCount;
-    private long timestamp;
-    private String partitionHistoryString;
+    private int historyLength;      // Particiones del historial al momento del evento
+    private byte status;
+    private byte filter;
+    private long tick;              // Reloj de la simulación (en quantums) al ocurrir el evento
+
+    public Log(LogContext context, int processId, int partitionId, long remainingTime, Status status,
+               long size, int cycleCount, Filter filter, int historyLength, long tick) {
+        this.context = context;
+        this.processId = processId;
+        this.partitionId = partitionId;
+        this.remainingTime = remainingTime;
+        this.status = (byte) status.ordinal();
+        this.size = size;
+        this.cycleCount = cycleCount;
+        this.filter = (byte) filter.ordinal();
+        this.historyLength = historyLength;
+        this.tick = tick;
+    }
+
+    LogContext getContext() {
+        return context;
+    }
 
-    public Log(Process process, Filter filter) {
-        this.processName = process.getName();
-        this.remainingTime = process.getRemainingTime();
-        this.status = process.getStatus();
-        this.size = process.getSize();
-        this.partition = process.getPartition();
-        this.cycleCount = process.getCycleCount();
-        this.filter = filter;
-        this.timestamp = System.currentTimeMillis();
-        this.partitionHistoryString = process.getPartitionHistoryString();
+    public int getProcessId() {
+        return processId;
     }
 
     public String getProcessName() {
-        return processName;
+        return context.getProcessName(processId);
     }
 
     public long getRemainingTime() {
@@ -32,56 +48,66 @@ public class Log {
     }
 
     public Status getStatus() {
-        return status;
+        return STATUSES[status];
     }
 
     public String getStatusString() {
-        return status == Status.BLOQUEADO ? "Bloqueado" : "No bloqueado";
+        return getStatus() == Status.BLOQUEADO ? "Bloqueado" : "No bloqueado";
     }
 
     public long getSize() {
         return size;
     }
 
+    public int getPartitionId() {
+        return partitionId;
+    }
+
     public Partition getPartition() {
-        return partition;
+        return context.getPartition(partitionId);
     }
 
     // Partición actual (solo la última)
     public String getPartitionName() {
+        Partition partition = getPartition();
         return partition != null ? partition.getName() : "Sin partición";
     }
 
     // Historial completo de particiones
     public String getPartitionHistoryString() {
-        return partitionHistoryString != null && !partitionHistoryString.isEmpty() 
-               ? partitionHistoryString 
+        return historyLength > 0
+               ? context.getPartitionHistoryString(processId, historyLength)
                : "Sin partición";
     }
 
+    public int getHistoryLength() {
+        return historyLength;
+    }
+
     public Filter getFilter() {
-        return filter;
+        return FILTERS[filter];
     }
 
     public int getCycleCount() {
         return cycleCount;
     }
 
-    public long getTimestamp() {
-        return timestamp;
+    public long getTick() {
+        return tick;
     }
 
     @Override
     public String toString() {
         return "Log{" +
-                "processName='" + processName + '\'' +
+                "processName='" + getProcessName() + '\'' +
                 ", remainingTime=" + remainingTime +
-                ", status=" + status +
+                ", status=" + getStatus() +
                 ", size=" + size +
-                ", partition=" + (partition != null ? partition.getName() : "null") +
-                ", partitionHistory=" + partitionHistoryString +
-                ", filter=" + filter +
+                ", partition=" + (partitionId >= 0 ? getPartitionName() : "null") +
+                ", partitionHistory=" + getPartitionHistoryString() +
+                ", filter=" + getFilter() +
                 ", cycleCount=" + cycleCount +
+                ", tick=" + tick +
                 '}';
     }
-}
\ No newline at end of file
+}
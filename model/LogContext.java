@@ -0,0 +1,114 @@
+package model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+// Datos de una simulación con los que los logs resuelven sus ids al mostrarse:
+// nombres de los procesos, su historial de particiones y las particiones por id
+public class LogContext {
+    private String[] processNames;          // Nombres por id de proceso
+    private Process[] processesById;        // Procesos de la corrida (null en modo escala)
+    private int[][] historiesById;          // Historial como ids de partición (archivo reabierto)
+    private List<Partition> partitionsById;
+
+    // Contexto sin historial de particiones (modo escala)
+    public LogContext(String[] processNames, List<Partition> partitionsById) {
+        this.processNames = processNames;
+        this.partitionsById = partitionsById;
+    }
+
+    public LogContext(String[] processNames, Process[] processesById, List<Partition> partitionsById) {
+        this.processNames = processNames;
+        this.processesById = processesById;
+        this.partitionsById = partitionsById;
+    }
+
+    // Contexto sin objetos Process: el historial de cada proceso son ids de partición
+    public LogContext(String[] processNames, int[][] historiesById, List<Partition> partitionsById) {
+        this.processNames = processNames;
+        this.historiesById = historiesById;
+        this.partitionsById = partitionsById;
+    }
+
+    public int getProcessCount() {
+        return processNames.length;
+    }
+
+    // Proceso de la corrida con ese id, o null si no hay historial (modo escala)
+    public Process getProcess(int processId) {
+        return processesById != null && processId >= 0 && processId < processesById.length
+                ? processesById[processId] : null;
+    }
+
+    // Ids de las particiones del historial del proceso
+    public int[] getPartitionHistoryIds(int processId) {
+        if (historiesById != null) {
+            return processId >= 0 && processId < historiesById.length ? historiesById[processId] : new int[0];
+        }
+        Process process = getProcess(processId);
+        if (process == null) {
+            return new int[0];
+        }
+        List<Partition> history = process.getPartitionHistory();
+        int[] ids = new int[history.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = history.get(i).getId();
+        }
+        return ids;
+    }
+
+    public List<Partition> getPartitions() {
+        return partitionsById;
+    }
+
+    // Al terminar la corrida se fijan la lista y una copia de cada partición:
+    // lo que se registre o se limpie después no cambia lo que resuelven estos
+    // logs. Devuelve la copia de cada partición viva, para el resultado.
+    IdentityHashMap<Partition, Partition> freezePartitions() {
+        IdentityHashMap<Partition, Partition> copies = new IdentityHashMap<>(partitionsById.size() * 2);
+        Partition[] frozen = new Partition[partitionsById.size()];
+        for (int i = 0; i < frozen.length; i++) {
+            Partition partition = partitionsById.get(i);
+            frozen[i] = partition.copy();
+            copies.put(partition, frozen[i]);
+        }
+        partitionsById = List.of(frozen);
+        return copies;
+    }
+
+    public String getProcessName(int processId) {
+        return processId >= 0 && processId < processNames.length ? processNames[processId] : "";
+    }
+
+    public Partition getPartition(int partitionId) {
+        return partitionId >= 0 && partitionId < partitionsById.size() ? partitionsById.get(partitionId) : null;
+    }
+
+    // Historial con las primeras historyLength particiones del proceso
+    public String getPartitionHistoryString(int processId, int historyLength) {
+        if (historiesById != null) {
+            return historyStringFromIds(processId, historyLength);
+        }
+        if (processesById == null || processId < 0 || processId >= processesById.length
+                || processesById[processId] == null) {
+            return "Sin partición";
+        }
+        return processesById[processId].getPartitionHistoryString(historyLength);
+    }
+
+    private String historyStringFromIds(int processId, int historyLength) {
+        int[] history = processId >= 0 && processId < historiesById.length ? historiesById[processId] : null;
+        if (history == null || history.length == 0 || historyLength <= 0) {
+            return "Sin partición";
+        }
+        int end = Math.min(historyLength, history.length);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < end; i++) {
+            sb.append(partitionsById.get(history[i]).getName());
+            if (i < end - 1) {
+                sb.append(", ");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package model;
+
+public enum LogPolicy {
+    COMPLETO("Conservar todos los eventos"),
+    ACOTADO("Conservar los últimos eventos de cada filtro"),
+    SIN_RETENCION("Solo enviar los eventos a los sinks");
+
+    private String description;
+
+    LogPolicy(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,54 @@
+package model;
+
+import java.nio.ByteBuffer;
+
+// Formato binario de ancho fijo de un log, compartido por los archivos de eventos
+final class LogRecord {
+    static final int SIZE = 48;
+
+    // Desplazamientos dentro de un registro
+    private static final int PROCESS_ID = 0;
+    private static final int PARTITION_ID = 4;
+    private static final int REMAINING_TIME = 8;
+    private static final int PROCESS_SIZE = 16;
+    private static final int TICK = 24;
+    private static final int CYCLE_COUNT = 32;
+    private static final int HISTORY_LENGTH = 36;
+    private static final int STATUS = 40;
+    private static final int FILTER = 41;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Filter[] FILTERS = Filter.values();
+
+    private LogRecord() {
+    }
+
+    static void write(ByteBuffer buffer, int offset, Log log) {
+        buffer.putInt(offset + PROCESS_ID, log.getProcessId());
+        buffer.putInt(offset + PARTITION_ID, log.getPartitionId());
+        buffer.putLong(offset + REMAINING_TIME, log.getRemainingTime());
+        buffer.putLong(offset + PROCESS_SIZE, log.getSize());
+        buffer.putLong(offset + TICK, log.getTick());
+        buffer.putInt(offset + CYCLE_COUNT, log.getCycleCount());
+        buffer.putInt(offset + HISTORY_LENGTH, log.getHistoryLength());
+        buffer.put(offset + STATUS, (byte) log.getStatus().ordinal());
+        buffer.put(offset + FILTER, (byte) log.getFilter().ordinal());
+    }
+
+    static Log read(ByteBuffer buffer, int offset, LogContext context) {
+        return new Log(context,
+                buffer.getInt(offset + PROCESS_ID),
+                buffer.getInt(offset + PARTITION_ID),
+                buffer.getLong(offset + REMAINING_TIME),
+                STATUSES[buffer.get(offset + STATUS)],
+                buffer.getLong(offset + PROCESS_SIZE),
+                buffer.getInt(offset + CYCLE_COUNT),
+                FILTERS[buffer.get(offset + FILTER)],
+                buffer.getInt(offset + HISTORY_LENGTH),
+                buffer.getLong(offset + TICK));
+    }
+
+    static Filter filter(ByteBuffer buffer, int offset) {
+        return FILTERS[buffer.get(offset + FILTER)];
+    }
+}
@@ -0,0 +1,14 @@
+package model;
+
+// Destino de los eventos de la simulación: recibe cada log en cuanto se produce
+public interface LogSink {
+    void accept(Log log);
+
+    // Aviso antes del primer evento de una corrida
+    default void runStarted() {
+    }
+
+    // Aviso al terminar la corrida (también si terminó con error)
+    default void runFinished() {
+    }
+}
@@ -0,0 +1,164 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Archivo de desborde: los logs que salen de la retención acotada se agregan al
+// final, comprimidos por bloques. Cada bloque se comprime por separado, así que
+// el archivo se puede leer en cualquier momento sin cerrarlo.
+// Bloque: cantidad de registros (int) | largo comprimido (int) | datos
+public class LogSpillFile implements AutoCloseable {
+    private static final int RECORDS_PER_BLOCK = 4096;
+    private static final int BLOCK_HEADER_SIZE = 8;
+
+    private FileChannel channel;
+    private ByteBuffer pending;         // Registros del bloque en curso, sin comprimir
+    private int pendingCount;
+    private long spilledCount;
+    private Deflater deflater;
+    private byte[] compressed;
+    private LogContext context;
+
+    public LogSpillFile(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        pending = ByteBuffer.allocate(RECORDS_PER_BLOCK * LogRecord.SIZE);
+        pendingCount = 0;
+        spilledCount = 0;
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        compressed = new byte[pending.capacity() / 2];
+        context = new LogContext(new String[0], new ArrayList<>());
+    }
+
+    public void append(Log log) {
+        context = log.getContext();
+        LogRecord.write(pending, pendingCount * LogRecord.SIZE, log);
+        pendingCount++;
+        spilledCount++;
+        if (pendingCount == RECORDS_PER_BLOCK) {
+            flush();
+        }
+    }
+
+    // Comprimir y escribir el bloque en curso
+    public void flush() {
+        if (pendingCount == 0) {
+            return;
+        }
+        deflater.reset();
+        deflater.setInput(pending.array(), 0, pendingCount * LogRecord.SIZE);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+        header.putInt(pendingCount).putInt(length).flip();
+        try {
+            channel.write(new ByteBuffer[] { header, ByteBuffer.wrap(compressed, 0, length) });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount = 0;
+    }
+
+    // Vaciar el archivo (al empezar otra corrida)
+    public void clear() {
+        try {
+            channel.truncate(0);
+            channel.position(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount = 0;
+        spilledCount = 0;
+    }
+
+    public long size() {
+        return spilledCount;
+    }
+
+    // Recorrer los logs desbordados de un filtro (null: todos) en orden de llegada
+    public void read(Filter filter, Consumer<Log> consumer) throws IOException {
+        flush();
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+        ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_BLOCK * LogRecord.SIZE);
+        Inflater inflater = new Inflater();
+        try {
+            long position = 0;
+            long end = channel.size();
+            while (position < end) {
+                header.clear();
+                readFully(header, position);
+                header.flip();
+                int recordCount = header.getInt();
+                int length = header.getInt();
+                position += BLOCK_HEADER_SIZE;
+
+                ByteBuffer block = ByteBuffer.allocate(length);
+                readFully(block, position);
+                position += length;
+
+                inflater.reset();
+                inflater.setInput(block.array(), 0, length);
+                int inflated = 0;
+                while (inflated < recordCount * LogRecord.SIZE) {
+                    int n = inflater.inflate(records.array(), inflated, recordCount * LogRecord.SIZE - inflated);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IOException("Bloque de desborde incompleto");
+                    }
+                    inflated += n;
+                }
+
+                for (int i = 0; i < recordCount; i++) {
+                    int offset = i * LogRecord.SIZE;
+                    if (filter == null || LogRecord.filter(records, offset) == filter) {
+                        consumer.accept(LogRecord.read(records, offset, context));
+                    }
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Bloque de desborde dañado", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public List<Log> read(Filter filter) throws IOException {
+        List<Log> logs = new ArrayList<>();
+        read(filter, logs::add);
+        return logs;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("Fin inesperado del archivo de desborde");
+            }
+            position += n;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        deflater.end();
+        channel.close();
+    }
+}
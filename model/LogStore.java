@@ -0,0 +1,25 @@
+package model;
+
+import java.util.List;
+
+// Almacén en memoria de los logs de una corrida. Los informes son vistas de solo
+// lectura: por filtro, por filtro y partición, y todos en orden de llegada.
+public interface LogStore extends LogSink {
+
+    @Override
+    default void accept(Log log) {
+        add(log);
+    }
+
+    void add(Log log);
+
+    List<Log> getByFilter(Filter filter);
+
+    List<Log> getByFilterAndPartition(Filter filter, int partitionId);
+
+    List<Log> getAll();
+
+    int size();
+
+    void clear();
+}
@@ -0,0 +1,460 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Registro binario de eventos en un archivo mapeado en memoria: cada log es un
+// registro de ancho fijo fuera del heap, con acceso aleatorio por posición.
+// Formato: encabezado | registros | diccionario (procesos, historiales y particiones)
+// | índice por filtro (cantidad de cada filtro y sus posiciones de registro, long).
+// El encabezado guarda el largo de los datos: lo que siga en el archivo es relleno
+// de las regiones mapeadas (si no se pudo recortar) y al leer se ignora.
+// Diccionario e índice se escriben al terminar la corrida para poder reabrir el
+// archivo en otra ejecución; el índice se lee mapeado, así que tampoco ocupa heap.
+public class MappedLogFile implements LogSink, AutoCloseable {
+    private static final int MAGIC = 0x534C4F47; // "SLOG"
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 40;
+    private static final int RECORD_SIZE = LogRecord.SIZE;
+    private static final int RECORDS_PER_REGION = 1 << 20;
+    private static final long REGION_SIZE = (long) RECORD_SIZE * RECORDS_PER_REGION; // 48 MB por región
+    private static final int POSITIONS_PER_REGION = 1 << 24;                        // 128 MB por región del índice
+
+    private static final int FILTER_COUNT = Filter.values().length;
+
+    private FileChannel channel;
+    private boolean writable;
+    private ArrayList<MappedByteBuffer> regions;
+    private long count;
+    private long dataEnd;           // Fin del diccionario: tamaño útil del archivo
+    private LogContext context;
+
+    // Índice por filtro en el archivo: posiciones de registro de cada filtro, una tras otra
+    private long indexOffset;       // 0: la corrida no terminó y todavía no hay índice
+    private long[] filterStart;     // Primera entrada de cada filtro en el índice
+    private long[] filterSize;
+    private ArrayList<MappedByteBuffer> indexRegions;
+
+    private MappedLogFile(FileChannel channel, boolean writable) {
+        this.channel = channel;
+        this.writable = writable;
+        this.regions = new ArrayList<>();
+        this.count = 0;
+        this.context = new LogContext(new String[0], new ArrayList<>());
+        resetIndex();
+    }
+
+    // Archivo nuevo para escribir (se sobreescribe en cada corrida)
+    public static MappedLogFile create(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedLogFile file = new MappedLogFile(channel, true);
+        file.writeHeader(0, 0);
+        return file;
+    }
+
+    // Reabrir un archivo escrito antes, solo para lectura
+    public static MappedLogFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedLogFile file = new MappedLogFile(channel, false);
+        try {
+            file.readHeaderAndDictionary();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return file;
+    }
+
+    // ========== ESCRITURA ==========
+
+    @Override
+    public void runStarted() {
+        checkWritable();
+        count = 0;
+        dataEnd = 0;
+        resetIndex();
+        try {
+            writeHeader(0, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(Log log) {
+        checkWritable();
+        context = log.getContext();
+        LogRecord.write(region(count), offset(count), log);
+        count++;
+    }
+
+    @Override
+    public void runFinished() {
+        checkWritable();
+        try {
+            long dictionaryOffset = HEADER_SIZE + count * RECORD_SIZE;
+            writeDictionary(dictionaryOffset);
+            writeIndex((dataEnd + 7) & ~7L);
+            for (MappedByteBuffer region : regions) {
+                region.force();
+            }
+            for (MappedByteBuffer region : indexRegions) {
+                region.force();
+            }
+            writeHeader(count, dictionaryOffset);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkWritable() {
+        if (!writable) {
+            throw new IllegalStateException("El archivo de eventos se abrió solo para lectura");
+        }
+    }
+
+    private void writeHeader(long recordCount, long dictionaryOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(recordCount).putLong(dictionaryOffset).putLong(indexOffset)
+                .putLong(dataEnd);
+        header.flip();
+        channel.write(header, 0);
+    }
+
+    // Nombres de procesos, historial de cada proceso (ids de partición) y particiones
+    private void writeDictionary(long offset) throws IOException {
+        channel.position(offset);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+        out.writeInt(context.getProcessCount());
+        for (int id = 0; id < context.getProcessCount(); id++) {
+            out.writeUTF(context.getProcessName(id));
+            int[] history = context.getPartitionHistoryIds(id);
+            out.writeInt(history.length);
+            for (int partitionId : history) {
+                out.writeInt(partitionId);
+            }
+        }
+
+        List<Partition> partitions = context.getPartitions();
+        out.writeInt(partitions.size());
+        for (Partition partition : partitions) {
+            out.writeUTF(partition.getName());
+            out.writeLong(partition.getSize());
+            out.writeLong(partition.getInitialLimit());
+            out.writeLong(partition.getFinalLimit());
+        }
+        out.flush(); // ← No se cierra: cerraría el canal
+        dataEnd = channel.position();
+    }
+
+    // Dos pasadas por los registros: contar cada filtro y escribir las posiciones
+    // en el tramo de su filtro. Solo FILTER_COUNT contadores quedan en el heap.
+    private void writeIndex(long offset) throws IOException {
+        long[] sizes = new long[FILTER_COUNT];
+        for (long position = 0; position < count; position++) {
+            sizes[filterAt(position).ordinal()]++;
+        }
+        ByteBuffer counts = ByteBuffer.allocate(FILTER_COUNT * Long.BYTES);
+        for (long size : sizes) {
+            counts.putLong(size);
+        }
+        counts.flip();
+        channel.write(counts, offset);
+        indexOffset = offset;
+        setFilterRuns(sizes);
+
+        long[] next = filterStart.clone();
+        for (long position = 0; position < count; position++) {
+            long entry = next[filterAt(position).ordinal()]++;
+            indexRegion(entry).putLong(entryOffset(entry), position);
+        }
+        dataEnd = positionsStart() + count * Long.BYTES;
+    }
+
+    // ========== LECTURA ==========
+
+    private void readHeaderAndDictionary() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IOException("No es un archivo de eventos de la simulación");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de archivo de eventos no soportada: " + version);
+        }
+        count = header.getLong();
+        long dictionaryOffset = header.getLong();
+        long storedIndexOffset = header.getLong();
+        long dataLength = header.getLong();
+        if (dictionaryOffset == 0 || storedIndexOffset == 0) {
+            throw new IOException("El archivo de eventos no se cerró al terminar la corrida");
+        }
+        if (dictionaryOffset != HEADER_SIZE + count * RECORD_SIZE
+                || dataLength != storedIndexOffset + (FILTER_COUNT + count) * Long.BYTES) {
+            throw new IOException("El encabezado del archivo de eventos no es coherente");
+        }
+        if (channel.size() < dataLength) {
+            throw new IOException("El archivo de eventos está incompleto: tiene " + channel.size()
+                    + " bytes y la corrida escribió " + dataLength);
+        }
+        dataEnd = dataLength;
+
+        ByteBuffer counts = ByteBuffer.allocate(FILTER_COUNT * Long.BYTES);
+        channel.read(counts, storedIndexOffset);
+        counts.flip();
+        if (counts.remaining() < FILTER_COUNT * Long.BYTES) {
+            throw new IOException("El índice del archivo de eventos está incompleto");
+        }
+        long[] sizes = new long[FILTER_COUNT];
+        for (int filter = 0; filter < FILTER_COUNT; filter++) {
+            sizes[filter] = counts.getLong();
+        }
+        indexOffset = storedIndexOffset;
+        setFilterRuns(sizes);
+
+        channel.position(dictionaryOffset);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+        int processCount = in.readInt();
+        String[] names = new String[processCount];
+        int[][] histories = new int[processCount][];
+        int[] noHistory = new int[0];
+        for (int id = 0; id < processCount; id++) {
+            names[id] = in.readUTF();
+            int length = in.readInt();
+            histories[id] = length == 0 ? noHistory : new int[length];
+            for (int i = 0; i < length; i++) {
+                histories[id][i] = in.readInt();
+            }
+        }
+
+        int partitionCount = in.readInt();
+        ArrayList<Partition> partitions = new ArrayList<>(partitionCount);
+        for (int id = 0; id < partitionCount; id++) {
+            Partition partition = new Partition(in.readUTF(), in.readLong(), in.readLong(), in.readLong());
+            partition.setId(id);
+            partitions.add(partition);
+        }
+        context = new LogContext(names, histories, partitions);
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public Log get(long position) {
+        if (position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + count);
+        }
+        return LogRecord.read(region(position), offset(position), context);
+    }
+
+    private Filter filterAt(long position) {
+        return LogRecord.filter(region(position), offset(position));
+    }
+
+    // Vista de solo lectura de todos los eventos, leídos del archivo al pedirlos
+    public List<Log> getAll() {
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int index) {
+                return MappedLogFile.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return listSize(count);
+            }
+        };
+    }
+
+    // Vista de solo lectura de los eventos de un filtro
+    public List<Log> getByFilter(Filter filter) {
+        if (indexOffset == 0) {
+            return scanFilter(filter);
+        }
+        long start = filterStart[filter.ordinal()];
+        int size = listSize(filterSize[filter.ordinal()]);
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+                }
+                long entry = start + index;
+                return MappedLogFile.this.get(indexRegion(entry).getLong(entryOffset(entry)));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // Corrida en curso (sin índice todavía): se recorre el archivo y se copian
+    // las posiciones del filtro; solo para consultas a mitad de corrida
+    private List<Log> scanFilter(Filter filter) {
+        long[] positions = new long[16];
+        int size = 0;
+        for (long position = 0; position < count; position++) {
+            if (filterAt(position) == filter) {
+                if (size == positions.length) {
+                    positions = Arrays.copyOf(positions, listSize((long) size * 2));
+                }
+                positions[size++] = position;
+            }
+        }
+        long[] found = positions;
+        int foundSize = size;
+        return new AbstractList<Log>() {
+            @Override
+            public Log get(int index) {
+                if (index < 0 || index >= foundSize) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + foundSize);
+                }
+                return MappedLogFile.this.get(found[index]);
+            }
+
+            @Override
+            public int size() {
+                return foundSize;
+            }
+        };
+    }
+
+    // Las vistas son List: más de Integer.MAX_VALUE eventos no se pueden recorrer así
+    private static int listSize(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Demasiados eventos para una lista: " + size
+                    + "; usar get(long) sobre el archivo");
+        }
+        return (int) size;
+    }
+
+    private void setFilterRuns(long[] sizes) {
+        filterSize = sizes;
+        filterStart = new long[FILTER_COUNT];
+        for (int filter = 1; filter < FILTER_COUNT; filter++) {
+            filterStart[filter] = filterStart[filter - 1] + sizes[filter - 1];
+        }
+    }
+
+    private void resetIndex() {
+        indexOffset = 0;
+        filterStart = null;
+        filterSize = null;
+        indexRegions = new ArrayList<>();
+    }
+
+    // ========== REGIONES MAPEADAS ==========
+
+    private ByteBuffer region(long position) {
+        int regionIndex = (int) (position / RECORDS_PER_REGION);
+        while (regions.size() <= regionIndex) {
+            regions.add(mapRegion(regions.size()));
+        }
+        return regions.get(regionIndex);
+    }
+
+    private int offset(long position) {
+        return (int) (position % RECORDS_PER_REGION) * RECORD_SIZE;
+    }
+
+    private MappedByteBuffer mapRegion(int regionIndex) {
+        long start = HEADER_SIZE + regionIndex * REGION_SIZE;
+        try {
+            if (writable) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, start, REGION_SIZE);
+            }
+            long length = Math.min(REGION_SIZE, HEADER_SIZE + count * RECORD_SIZE - start);
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void mapAll() {
+        for (long position = 0; position < count; position += RECORDS_PER_REGION) {
+            region(position);
+        }
+        if (indexOffset != 0) {
+            for (long entry = 0; entry < count; entry += POSITIONS_PER_REGION) {
+                indexRegion(entry);
+            }
+        }
+    }
+
+    // ========== REGIONES DEL ÍNDICE ==========
+
+    private long positionsStart() {
+        return indexOffset + (long) FILTER_COUNT * Long.BYTES;
+    }
+
+    private ByteBuffer indexRegion(long entry) {
+        int regionIndex = (int) (entry / POSITIONS_PER_REGION);
+        while (indexRegions.size() <= regionIndex) {
+            indexRegions.add(mapIndexRegion(indexRegions.size()));
+        }
+        return indexRegions.get(regionIndex);
+    }
+
+    private int entryOffset(long entry) {
+        return (int) (entry % POSITIONS_PER_REGION) * Long.BYTES;
+    }
+
+    // Cada región cubre solo las posiciones que existen: no deja relleno al final
+    private MappedByteBuffer mapIndexRegion(int regionIndex) {
+        long first = (long) regionIndex * POSITIONS_PER_REGION;
+        long start = positionsStart() + first * Long.BYTES;
+        long length = Math.min(POSITIONS_PER_REGION, count - first) * Long.BYTES;
+        try {
+            return channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    start, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Un mapeo no depende del canal: se mapea lo que falte y las vistas
+        // ya entregadas (por ejemplo las de un SimulationResult) siguen leyendo
+        try {
+            mapAll();
+        } catch (UncheckedIOException e) {
+            channel.close();
+            throw e.getCause();
+        }
+        try {
+            // Las regiones se mapean completas; se recorta el relleno final
+            if (writable && dataEnd > 0) {
+                channel.truncate(dataEnd);
+            }
+        } catch (IOException e) {
+            // Algunos sistemas no recortan un archivo aún mapeado: queda con relleno
+            // al final, que open() ignora porque el encabezado guarda el largo de los datos
+        } finally {
+            channel.close();
+        }
+    }
+}
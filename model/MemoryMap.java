@@ -0,0 +1,231 @@
+package model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+// Mapa de memoria: orden de las particiones y sus límites.
+// Cada partición ocupa una ranura; las ranuras solo se agregan al final y las
+// liberadas quedan muertas hasta la siguiente reconstrucción. Dos árboles de
+// Fenwick sobre las ranuras permiten, en O(log n):
+//  - la posición de una partición (cuántas ranuras vivas hay antes que ella)
+//  - desplazar los límites de todo un tramo de particiones
+// Mientras una partición está en memoria sus límites se calculan aquí al
+// pedirlos; los campos de la Partition se actualizan recién cuando sale del
+// mapa o con writeBackLimits().
+public class MemoryMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Partition[] slots;
+    private long[] initialLimits;   // Límites registrados al ocupar la ranura
+    private long[] finalLimits;
+    private int[] liveTree;         // Fenwick: ranuras vivas
+    private long[] offsetTree;      // Fenwick: desplazamientos acumulados (diferencias)
+    private IdentityHashMap<Partition, Integer> slotByPartition;
+    private int slotCount;
+    private int size;
+
+    public MemoryMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public MemoryMap(List<Partition> partitions) {
+        allocate(Math.max(INITIAL_CAPACITY, partitions.size() * 2));
+        for (Partition partition : partitions) {
+            add(partition);
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new Partition[capacity];
+        initialLimits = new long[capacity];
+        finalLimits = new long[capacity];
+        liveTree = new int[capacity + 1];
+        offsetTree = new long[capacity + 2];
+        slotByPartition = new IdentityHashMap<>();
+        slotCount = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Agregar al final de la memoria
+    public void add(Partition partition) {
+        if (slotCount == slots.length) {
+            rebuild(Math.max(INITIAL_CAPACITY, size * 2));
+        }
+        int slot = slotCount++;
+        slots[slot] = partition;
+        initialLimits[slot] = partition.getInitialLimit();
+        finalLimits[slot] = partition.getFinalLimit();
+        slotByPartition.put(partition, slot);
+        addLive(slot, 1);
+        size++;
+    }
+
+    public Partition get(int position) {
+        return slots[slotAt(position)];
+    }
+
+    // Reemplazar la partición de una posición conservando su lugar
+    public void set(int position, Partition partition) {
+        int slot = slotAt(position);
+        writeBack(slot);
+        slotByPartition.remove(slots[slot]);
+        slots[slot] = partition;
+        long offset = offsetAt(slot);
+        initialLimits[slot] = partition.getInitialLimit() - offset;
+        finalLimits[slot] = partition.getFinalLimit() - offset;
+        slotByPartition.put(partition, slot);
+    }
+
+    public Partition remove(int position) {
+        int slot = slotAt(position);
+        writeBack(slot);
+        Partition removed = slots[slot];
+        slots[slot] = null;
+        slotByPartition.remove(removed);
+        addLive(slot, -1);
+        size--;
+        return removed;
+    }
+
+    public Partition removeLast() {
+        return remove(size - 1);
+    }
+
+    public Partition getLast() {
+        return get(size - 1);
+    }
+
+    // Posición de la partición (por identidad), o -1 si no está en memoria
+    public int indexOf(Partition partition) {
+        Integer slot = slotByPartition.get(partition);
+        return slot == null ? -1 : liveBefore(slot);
+    }
+
+    public long getInitialLimit(int position) {
+        int slot = slotAt(position);
+        return initialLimits[slot] + offsetAt(slot);
+    }
+
+    public long getFinalLimit(int position) {
+        int slot = slotAt(position);
+        return finalLimits[slot] + offsetAt(slot);
+    }
+
+    // Desplazar los límites de las posiciones [from, to] en offset
+    public void shift(int from, int to, long offset) {
+        if (from > to) {
+            return;
+        }
+        addOffset(slotAt(from), offset);
+        addOffset(slotAt(to) + 1, -offset);
+    }
+
+    // Copiar los límites actuales a las particiones en memoria (al terminar la corrida)
+    public void writeBackLimits() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                writeBack(slot);
+            }
+        }
+    }
+
+    private void writeBack(int slot) {
+        long offset = offsetAt(slot);
+        slots[slot].setInitialLimit(initialLimits[slot] + offset);
+        slots[slot].setFinalLimit(finalLimits[slot] + offset);
+    }
+
+    // ========== ÁRBOLES DE FENWICK ==========
+
+    private void addLive(int slot, int delta) {
+        for (int i = slot + 1; i < liveTree.length; i += i & -i) {
+            liveTree[i] += delta;
+        }
+    }
+
+    // Ranuras vivas antes de la ranura indicada
+    private int liveBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += liveTree[i];
+        }
+        return count;
+    }
+
+    // Ranura de la posición-ésima partición viva
+    private int slotAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + size);
+        }
+        int slot = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(liveTree.length - 1); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next < liveTree.length && liveTree[next] < remaining) {
+                slot = next;
+                remaining -= liveTree[next];
+            }
+        }
+        return slot;
+    }
+
+    private void addOffset(int slot, long delta) {
+        for (int i = slot + 1; i < offsetTree.length; i += i & -i) {
+            offsetTree[i] += delta;
+        }
+    }
+
+    private long offsetAt(int slot) {
+        long offset = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            offset += offsetTree[i];
+        }
+        return offset;
+    }
+
+    // Compactar las ranuras vivas en un arreglo nuevo con los límites ya aplicados
+    private void rebuild(int capacity) {
+        int liveCount = size;
+        Partition[] livePartitions = new Partition[liveCount];
+        long[] liveInitialLimits = new long[liveCount];
+        long[] liveFinalLimits = new long[liveCount];
+        for (int position = 0; position < liveCount; position++) {
+            int slot = slotAt(position);
+            long offset = offsetAt(slot);
+            livePartitions[position] = slots[slot];
+            liveInitialLimits[position] = initialLimits[slot] + offset;
+            liveFinalLimits[position] = finalLimits[slot] + offset;
+        }
+
+        allocate(capacity);
+        for (int slot = 0; slot < liveCount; slot++) {
+            slots[slot] = livePartitions[slot];
+            initialLimits[slot] = liveInitialLimits[slot];
+            finalLimits[slot] = liveFinalLimits[slot];
+            slotByPartition.put(livePartitions[slot], slot);
+            addLive(slot, 1);
+        }
+        slotCount = liveCount;
+        size = liveCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int position = 0; position < size; position++) {
+            sb.append(get(position));
+            if (position < size - 1) {
+                sb.append(", ");
+            }
+        }
+        return sb.append("]").toString();
+    }
+}
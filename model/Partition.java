@@ -1,19 +1,21 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 public class Partition {
+    private int id = -1; // ← Identificador denso asignado al registrar la partición
     private String name;
     private long size;
     private long initialLimit;  // ← NUEVO: Índice inicial
     private long finalLimit;    // ← NUEVO: Índice final
     private ArrayList<Process> assignedProcesses;
-    private Set<String> processHistoryNames;
-    private Map<String, Long> processExecutionTime;
+    private int[] processHistoryIds;           // Procesos que pasaron por la partición (por id); suelen ser uno o dos
+    private int processHistoryCount;
+    private ArrayList<String> processHistoryNames;
+    private long totalExecutionTime;
     private boolean available;
 
     // Constructor original (sin límites)
@@ -23,8 +25,9 @@ public class Partition {
         this.initialLimit = 0;  // ← INICIALIZAR
         this.finalLimit = 0;    // ← INICIALIZAR
         this.assignedProcesses = new ArrayList<>();
-        this.processHistoryNames = new HashSet<>();
-        this.processExecutionTime = new HashMap<>();
+        this.processHistoryIds = new int[1];
+        this.processHistoryNames = new ArrayList<>();
+        this.totalExecutionTime = 0;
         this.available = false;  
     }
 
@@ -35,8 +38,9 @@ public class Partition {
         this.initialLimit = initialLimit;
         this.finalLimit = finalLimit;
         this.assignedProcesses = new ArrayList<>();
-        this.processHistoryNames = new HashSet<>();
-        this.processExecutionTime = new HashMap<>();
+        this.processHistoryIds = new int[1];
+        this.processHistoryNames = new ArrayList<>();
+        this.totalExecutionTime = 0;
         this.available = false;
     }
 
@@ -48,6 +52,14 @@ public class Partition {
         this.available = available;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public String getName() {
         return name;
     }
@@ -86,29 +98,46 @@ public class Partition {
             assignedProcesses.add(process);
         }
         if (process != null) {
+            addToProcessHistory(process);
+        }
+    }
+
+    private void addToProcessHistory(Process process) {
+        if (process.getId() < 0) {
+            // Proceso sin registrar: solo se puede comparar por nombre
+            if (!processHistoryNames.contains(process.getName())) {
+                processHistoryNames.add(process.getName());
+            }
+        } else if (!inProcessHistory(process.getId())) {
+            if (processHistoryCount == processHistoryIds.length) {
+                processHistoryIds = Arrays.copyOf(processHistoryIds, processHistoryCount * 2);
+            }
+            processHistoryIds[processHistoryCount++] = process.getId();
             processHistoryNames.add(process.getName());
         }
     }
 
-    public void removeProcess(Process process) {
-        assignedProcesses.remove(process);
+    // Búsqueda lineal: un arreglo de bits por id ocuparía memoria proporcional a
+    // la cantidad de procesos en cada una de las particiones de la corrida
+    private boolean inProcessHistory(int processId) {
+        for (int i = 0; i < processHistoryCount; i++) {
+            if (processHistoryIds[i] == processId) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public void removeProcessByName(String processName) {
-        assignedProcesses.removeIf(p -> p.getName().equalsIgnoreCase(processName));
+    public void removeProcess(Process process) {
+        assignedProcesses.remove(process);
     }
 
-    public void addExecutionTime(String processName, long timeExecuted) {
-        long currentTime = processExecutionTime.getOrDefault(processName, 0L);
-        processExecutionTime.put(processName, currentTime + timeExecuted);
+    public void addExecutionTime(long timeExecuted) {
+        totalExecutionTime += timeExecuted;
     }
 
     public long getTotalExecutionTime() {
-        long total = 0;
-        for (Long time : processExecutionTime.values()) {
-            total += time;
-        }
-        return total;
+        return totalExecutionTime;
     }
 
     public String getProcessHistoryString() {
@@ -143,8 +172,22 @@ public class Partition {
 
     public void clearExecutionData() {
         assignedProcesses.clear();
+        processHistoryCount = 0;
         processHistoryNames.clear();
-        processExecutionTime.clear();
+        totalExecutionTime = 0;
+    }
+
+    // Copia con los datos de ejecución actuales (para resultados que no deben cambiar)
+    public Partition copy() {
+        Partition copy = new Partition(name, size, initialLimit, finalLimit);
+        copy.id = id;
+        copy.assignedProcesses.addAll(assignedProcesses);
+        copy.processHistoryIds = Arrays.copyOf(processHistoryIds, Math.max(1, processHistoryCount));
+        copy.processHistoryCount = processHistoryCount;
+        copy.processHistoryNames.addAll(processHistoryNames);
+        copy.totalExecutionTime = totalExecutionTime;
+        copy.available = available;
+        return copy;
     }
 
     @Override
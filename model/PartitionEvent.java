@@ -0,0 +1,100 @@
+package model;
+
+// Evento de partición: qué le pasó a la partición y sus límites en ese momento.
+// MOVIDA no nombra una partición: es un solo evento por liberación con el tramo
+// de posiciones que se corrió y el desplazamiento; los límites de cada partición
+// se leen del mapa de memoria (o de la partición al terminar la corrida).
+public class PartitionEvent {
+    private PartitionEventType type;
+    private Partition partition;    // null en MOVIDA
+    private long size;
+    private long initialLimit;
+    private long finalLimit;
+    private int firstPosition = -1; // Tramo movido (solo MOVIDA)
+    private int lastPosition = -1;
+    private long offset;
+    private long tick;
+
+    public PartitionEvent(PartitionEventType type, Partition partition, long tick) {
+        this(type, partition, partition.getInitialLimit(), partition.getFinalLimit(), tick);
+    }
+
+    // Límites dados: los de una partición en memoria se leen del mapa de memoria
+    public PartitionEvent(PartitionEventType type, Partition partition, long initialLimit, long finalLimit,
+            long tick) {
+        this.type = type;
+        this.partition = partition;
+        this.size = partition.getSize();
+        this.initialLimit = initialLimit;
+        this.finalLimit = finalLimit;
+        this.tick = tick;
+    }
+
+    // Particiones de las posiciones [firstPosition, lastPosition] corridas en offset
+    public PartitionEvent(int firstPosition, int lastPosition, long offset, long tick) {
+        this.type = PartitionEventType.MOVIDA;
+        this.firstPosition = firstPosition;
+        this.lastPosition = lastPosition;
+        this.offset = offset;
+        this.tick = tick;
+    }
+
+    // El mismo evento sobre otra partición (la copia que guarda un resultado)
+    PartitionEvent withPartition(Partition partition) {
+        PartitionEvent event = new PartitionEvent(firstPosition, lastPosition, offset, tick);
+        event.type = type;
+        event.partition = partition;
+        event.size = size;
+        event.initialLimit = initialLimit;
+        event.finalLimit = finalLimit;
+        return event;
+    }
+
+    public PartitionEventType getType() {
+        return type;
+    }
+
+    public Partition getPartition() {
+        return partition;
+    }
+
+    public String getPartitionName() {
+        return partition != null ? partition.getName() : "";
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getInitialLimit() {
+        return initialLimit;
+    }
+
+    public long getFinalLimit() {
+        return finalLimit;
+    }
+
+    public int getFirstPosition() {
+        return firstPosition;
+    }
+
+    public int getLastPosition() {
+        return lastPosition;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    @Override
+    public String toString() {
+        if (partition == null) {
+            return type + " posiciones " + firstPosition + ".." + lastPosition + " desplazamiento " + offset;
+        }
+        return type + " " + partition.getName() + " " + size + " [" + initialLimit + ", " + finalLimit + "]";
+    }
+}
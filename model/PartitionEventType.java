@@ -0,0 +1,19 @@
+package model;
+
+public enum PartitionEventType {
+    CREADA("Partición creada"),
+    MOVIDA("Particiones movidas por compactación"),
+    FUSIONADA("Partición fusionada por condensación"),
+    LIBERADA("Partición liberada"),
+    ASIGNADA("Partición asignada al despachar");
+
+    private String description;
+
+    PartitionEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
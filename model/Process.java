@@ -3,6 +3,7 @@ package model;
 import java.util.ArrayList;
 
 public class Process {
+    private int id = -1; // ← Identificador denso asignado al registrar el proceso
     private String name;
     private long originalTime;
     private long remainingTime;
@@ -128,15 +129,30 @@ public class Process {
         return new ArrayList<>(partitionHistory);
     }
 
+    // Primera partición del historial (la asignada al registrar la corrida), o null
+    public Partition getInitialPartition() {
+        return partitionHistory.isEmpty() ? null : partitionHistory.get(0);
+    }
+
+    public int getPartitionHistorySize() {
+        return partitionHistory.size();
+    }
+
     public String getPartitionHistoryString() {
-        if (partitionHistory.isEmpty()) {
+        return getPartitionHistoryString(partitionHistory.size());
+    }
+
+    // Historial de las primeras length particiones (el historial solo crece al final)
+    public String getPartitionHistoryString(int length) {
+        if (length <= 0 || partitionHistory.isEmpty()) {
             return "Sin partición";
         }
         
+        int end = Math.min(length, partitionHistory.size());
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < partitionHistory.size(); i++) {
+        for (int i = 0; i < end; i++) {
             sb.append(partitionHistory.get(i).getName());
-            if (i < partitionHistory.size() - 1) {
+            if (i < end - 1) {
                 sb.append(", ");
             }
         }
@@ -144,6 +160,10 @@ public class Process {
     }
 
     // Getters existentes
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -177,6 +197,10 @@ public class Process {
     }
 
     // Setters existentes
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
@@ -205,6 +229,7 @@ public class Process {
     // Actualizar el método clone
     public Process clone() {
         Process cloned = new Process(name, originalTime, remainingTime, status, size, partition, cycleCount);
+        cloned.id = this.id;
         cloned.blockedPartitions = new ArrayList<>(this.blockedPartitions);
         cloned.lastPartitionIndex = this.lastPartitionIndex;
         cloned.partitionHistory = new ArrayList<>(this.partitionHistory);  // ← Clonar historial
@@ -1,27 +1,76 @@
 package model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
 
 public class ProcessManager {
-    private ArrayList<Process> initialProcesses;
     private ArrayList<Partition> partitions;
-    private ArrayList<Log> executionLogs;
-    private ArrayList<Partition> internalPartitions;
+    private HashMap<String, Partition> partitionsByName; // ← Índice por nombre (sin distinguir mayúsculas)
+    private ArrayList<Partition> partitionsById; // ← Todas las particiones registradas, por id
+    private LogStore executionLogs;     // ← Sink en memoria (se puede desconectar)
+    private ArrayList<LogSink> logSinks; // ← Destinos de cada evento, en orden
+    private MappedLogFile eventLogFile;  // ← Registro binario en archivo (null: logs en memoria)
+    private Path eventLogPath;          // ← Archivo pedido; las corridas siguientes usan uno propio al lado
+    private int eventLogRuns;           // ← Corridas con resultado escritas desde setEventLogFile
+    private LogContext logContext;      // ← Nombres e historiales que resuelven los logs de la corrida
+    private MemoryMap memoryMap; // ← Particiones en memoria, en orden de posición
+    private ArrayList<PartitionEvent> partitionEvents; // ← Informe de particiones (creadas, movidas...)
     private ArrayList<Condensation> condensations;
     private ArrayList<Compactation> compactations;
     private boolean isFirstCondensation;
+    private long clock;                 // ← Reloj de la simulación: tiempo simulado en quantums despachados
+    private SimulationConfig config;    // ← Quantum, planificación y logs de la corrida
+    private boolean scaleMode;          // ← Procesos en ProcessTable, sin objetos Process
+    private ProcessTable processTable;  // ← Procesos de entrada (los dos modos); el id es la fila
+    private Process[] runProcesses;     // ← Procesos del motor de la última corrida, por id (null si no hubo)
+    private volatile boolean cancelRequested; // ← Pedido de cancelación (desde otro hilo)
+    private long processedQuanta;       // ← Quantums despachados en la corrida
+    private volatile long publishedQuanta; // ← Último progreso visible desde otros hilos
+    private volatile long estimatedQuanta;
+
+    private ProcessTable runWorkload;   // ← Procesos de entrada de la corrida en curso
+    private ReadyQueue readyQueue;      // ← Cola de listos del motor (modo normal)
+    private int round;
+    private long drainedTime;           // ← Tiempo descontado hasta ahora a los que esperan su último quantum
+    private long settledTime;           // ← drainedTime en que se saldó toda la cola por última vez
+    private long[] drainMarks;          // ← Por id: drainedTime ya cargado al proceso, o -1 si no está en su último quantum
+    private long runNumber;             // ← Aumenta con cada corrida; invalida los pasos de la anterior
+
+    private static final int PROGRESS_INTERVAL = 64; // ← Quantums entre avisos de progreso
 
     public ProcessManager() {
-        initialProcesses = new ArrayList<>();
-        loadProcesses();
+        this(true);
+    }
+
+    // Sin los procesos de ejemplo: para cargas armadas por código (lotes, barridos)
+    public ProcessManager(boolean loadSampleProcesses) {
+        processTable = new ProcessTable();
+        scaleMode = false;
+        if (loadSampleProcesses) {
+            loadProcesses();
+        }
         partitions = new ArrayList<>();
-        executionLogs = new ArrayList<>();
-        internalPartitions = new ArrayList<>();
+        partitionsByName = new HashMap<>();
+        partitionsById = new ArrayList<>();
+        executionLogs = new FullLogStore();
+        logSinks = new ArrayList<>();
+        logSinks.add(executionLogs);
+        logContext = new LogContext(new String[0], partitionsById);
+        memoryMap = new MemoryMap();
+        partitionEvents = new ArrayList<>();
         condensations = new ArrayList<>();
         compactations = new ArrayList<>();
         isFirstCondensation = true;
+        clock = 0;
+        config = SimulationConfig.defaults();
     }
 
     public void loadProcesses() {
@@ -35,12 +84,19 @@ public class ProcessManager {
     }
 
     public void addPartition(String name, long size) {
-        Partition partition = new Partition(name, size);
-        partitions.add(partition);
+        addPartition(new Partition(name, size));
     }
 
     public void addPartition(Partition partition) {
+        partition.setId(partitionsById.size());
+        partitionsById.add(partition);
         partitions.add(partition);
+        // Se conserva la primera partición con ese nombre, igual que la búsqueda lineal
+        partitionsByName.putIfAbsent(partitionKey(partition.getName()), partition);
+    }
+
+    private String partitionKey(String name) {
+        return name.toLowerCase();
     }
 
     public void editPartition(String partitionName, long newSize) {
@@ -51,91 +107,244 @@ public class ProcessManager {
     }
 
     public boolean partitionExists(String name) {
-        return partitions.stream()
-                .anyMatch(p -> p.getName().equalsIgnoreCase(name.trim()));
+        return partitionsByName.containsKey(partitionKey(name.trim()));
     }
 
     public void removePartition(String name) {
-        partitions.removeIf(p -> p.getName().equalsIgnoreCase(name.trim()));
+        if (partitionsByName.remove(partitionKey(name.trim())) != null) {
+            partitions.removeIf(p -> p.getName().equalsIgnoreCase(name.trim()));
+        }
     }
 
     public Partition findPartitionByName(String name) {
-        return partitions.stream()
-                .filter(p -> p.getName().equalsIgnoreCase(name.trim()))
-                .findFirst()
-                .orElse(null);
+        return partitionsByName.get(partitionKey(name.trim()));
     }
 
     public Partition searchPartition(String name) {
-        for (int i = 0; i < partitions.size(); i++) {
-            if (partitions.get(i).getName().equalsIgnoreCase(name)) {
-                return partitions.get(i);
+        return partitionsByName.get(partitionKey(name));
+    }
+
+    // Alguno de los procesos registrados empezó la última corrida en esa partición
+    public boolean hasPartitionAssignedProcesses(String partitionName) {
+        if (runProcesses == null) {
+            return false;
+        }
+        for (Process process : runProcesses) {
+            if (process != null && process.getInitialPartition() != null
+                    && process.getInitialPartition().getName().equalsIgnoreCase(partitionName)) {
+                return true;
             }
         }
-        return null;
+        return false;
     }
 
-    public boolean hasPartitionAssignedProcesses(String partitionName) {
-        return initialProcesses.stream()
-                .anyMatch(p -> p.getPartition() != null &&
-                        p.getPartition().getName().equalsIgnoreCase(partitionName));
+    public List<Partition> getPartitions() {
+        return Collections.unmodifiableList(partitions);
+    }
+
+    // ========== MODO ESCALA ==========
+
+    // Los procesos de entrada viven siempre en una tabla de arreglos primitivos.
+    // En modo escala la corrida no es el motor sobre esa tabla sino otra simulación: round robin
+    // puro (runScaleSimulation), sin particiones, condensaciones ni compactaciones,
+    // que crean objetos por proceso y por ronda. Cuando el motor completa la
+    // corrida, los logs de procesos (INICIAL, LISTO...FINALIZADO) son los mismos
+    // en orden, ciclo, tiempo restante y tick; los informes de particiones quedan
+    // vacíos y no hay simulación por pasos.
+    public void setScaleMode(boolean scaleMode) {
+        if (this.scaleMode == scaleMode) {
+            return;
+        }
+        runProcesses = null;    // Las particiones de la última corrida ya no valen
+        this.scaleMode = scaleMode;
     }
 
-    public ArrayList<Partition> getPartitions() {
-        return new ArrayList<>(partitions);
+    public boolean isScaleMode() {
+        return scaleMode;
     }
 
+    public ProcessTable getProcessTable() {
+        return processTable;
+    }
+
+    private int findProcessIdByName(String name) {
+        return processTable.indexOf(name.trim());
+    }
+
+    // ========== PROCESOS ==========
+
     public void addProcess(String name, long time, Status status, long size) {
-        Process process = new Process(name, time, status, size);
-        initialProcesses.add(process);
+        processTable.add(name, time, status, size);
+    }
+
+    // Agregar procesos ya validados de una sola vez (carga desde archivo): una
+    // tabla vacía se reemplaza por la cargada; si no, se copian sus arreglos al final
+    void addProcesses(ProcessTable table) {
+        if (processTable.isEmpty()) {
+            processTable = table;
+        } else {
+            processTable.addAll(table);
+        }
+    }
+
+    // Nombres de los procesos registrados, en orden de entrada
+    String[] getProcessNames() {
+        return processTable.getNames();
     }
 
     public boolean processExists(String name) {
-        return initialProcesses.stream()
-                .anyMatch(p -> p.getName().equalsIgnoreCase(name.trim()));
+        return findProcessIdByName(name) != -1;
     }
 
     public void removeProcess(String name) {
-        Process process = findProcessByName(name);
-        if (process != null && process.getPartition() != null) {
-            process.getPartition().removeProcess(process);
+        int id = findProcessIdByName(name);
+        if (id == -1) {
+            return;
+        }
+        processTable.remove(id);
+        // Si estaba en la última corrida, deja su partición inicial
+        if (runProcesses != null) {
+            for (int i = 0; i < runProcesses.length; i++) {
+                Process process = runProcesses[i];
+                if (process != null && process.getName().equalsIgnoreCase(name.trim())) {
+                    if (process.getInitialPartition() != null) {
+                        process.getInitialPartition().removeProcess(process);
+                    }
+                    runProcesses = runProcesses.clone(); // El arreglo sigue en los logs de la corrida
+                    runProcesses[i] = null;
+                    break;
+                }
+            }
         }
-        initialProcesses.removeIf(p -> p.getName().equalsIgnoreCase(name.trim()));
     }
 
     public void editProcess(int position, String processName, long newTime,
             Status newStatus, long newSize) {
-        if (position >= 0 && position < initialProcesses.size()) {
-            Process existingProcess = initialProcesses.get(position);
-            if (existingProcess.getName().equalsIgnoreCase(processName)) {
-                existingProcess.setOriginalTime(newTime);
-                existingProcess.setStatus(newStatus);
-                existingProcess.setSize(newSize);
+        if (position >= 0 && position < processTable.size()
+                && processTable.getName(position).equalsIgnoreCase(processName)) {
+            processTable.setOriginalTime(position, newTime);
+            processTable.setStatus(position, newStatus);
+            processTable.setSize(position, newSize);
+        }
+    }
+
+    public boolean isEmpty() {
+        return processTable.isEmpty();
+    }
+
+    // Vista de los procesos de entrada; cada Process se arma al pedirlo
+    public List<Process> getInitialProcesses() {
+        return new AbstractList<Process>() {
+            @Override
+            public Process get(int index) {
+                if (index < 0 || index >= processTable.size()) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+                            + processTable.size());
+                }
+                return processTable.toProcess(index);
+            }
+
+            @Override
+            public int size() {
+                return processTable.size();
             }
+        };
+    }
+
+    // ========== SIMULACIÓN CON CONDENSACIÓN Y COMPACTACIÓN ==========
+
+    public SimulationResult runSimulation() {
+        return runSimulation(config);
+    }
+
+    // Simular con otra configuración; queda como la configuración actual
+    public SimulationResult runSimulation(SimulationConfig runConfig) {
+        beginRun(runConfig);
+        try {
+            if (scaleMode) {
+                runScaleSimulation();
+            } else {
+                runPartitionedSimulation();
+            }
+        } finally {
+            endRun();
         }
+        return buildResult();
     }
 
-    private Process findProcessByName(String name) {
-        return initialProcesses.stream()
-                .filter(p -> p.getName().equalsIgnoreCase(name.trim()))
-                .findFirst()
-                .orElse(null);
+    // Simulación por pasos con la configuración actual
+    public SimulationStepper startStepping() {
+        return startStepping(config);
     }
 
-    public boolean isEmpty() {
-        return initialProcesses.isEmpty();
+    // Preparar la corrida sin despachar nada; el motor avanza con los métodos
+    // del SimulationStepper. Solo en modo normal: en modo escala no hay cola
+    // de listos ni mapa de memoria que mostrar.
+    public SimulationStepper startStepping(SimulationConfig runConfig) {
+        if (scaleMode) {
+            throw new IllegalStateException("La simulación por pasos no está disponible en modo escala");
+        }
+        beginRun(runConfig);
+        try {
+            startPartitionedSimulation();
+        } catch (RuntimeException e) {
+            endRun();
+            throw e;
+        }
+        return new SimulationStepper(this, runNumber);
     }
 
-    public ArrayList<Process> getInitialProcesses() {
-        return new ArrayList<>(initialProcesses);
+    private void beginRun(SimulationConfig runConfig) {
+        runNumber++;
+        config = runConfig;
+        applyLogPolicy(runConfig);
+        // Colecciones nuevas por corrida: las del resultado anterior no se tocan
+        renewLogStore();
+        partitionEvents = new ArrayList<>();
+        condensations = new ArrayList<>();
+        compactations = new ArrayList<>();
+        runWorkload = processTable.copy();
+        if (eventLogRuns > 0 && logSinks.contains(eventLogFile)) {
+            nextEventLogFile();
+        }
+        processedQuanta = 0;
+        publishedQuanta = 0;
+        estimatedQuanta = estimateQuanta(runWorkload);
+        for (LogSink sink : logSinks) {
+            sink.runStarted();
+        }
     }
 
-    // ========== SIMULACIÓN CON CONDENSACIÓN Y COMPACTACIÓN ==========
+    private void endRun() {
+        publishedQuanta = processedQuanta;
+        readyQueue = null;
+        for (LogSink sink : logSinks) {
+            sink.runFinished();
+        }
+    }
+
+    private SimulationResult buildResult() {
+        IdentityHashMap<Partition, Partition> frozenPartitions = logContext.freezePartitions();
+        MappedLogFile logFile = logSinks.contains(eventLogFile) ? eventLogFile : null;
+        SimulationResult result = new SimulationResult(config, clock, runWorkload, partitions,
+                isRetainingLogs() ? executionLogs : null, logFile, frozenPartitions, partitionEvents,
+                condensations, compactations);
+        eventLogRuns += logFile != null ? 1 : 0;
+        runWorkload = null;
+        return result;
+    }
 
-    public void runSimulation() {
-        executionLogs.clear();
-        condensations.clear();
-        compactations.clear();
+    private void runPartitionedSimulation() {
+        startPartitionedSimulation();
+        while (hasPendingProcesses()) {
+            stepPartitionedSimulation();
+        }
+        finishPartitionedSimulation();
+    }
+
+    // Particiones iniciales, clones de los procesos y cola de listos
+    private void startPartitionedSimulation() {
+        clock = 0;
         isFirstCondensation = true;
 
         // Limpiar particiones
@@ -144,91 +353,135 @@ public class ProcessManager {
             p.setAvailable(false);
         }
 
+        // Procesos del motor de esta corrida, en orden de entrada, armados desde la
+        // tabla; los logs resuelven nombres e historial con ellos
+        runProcesses = new Process[runWorkload.size()];
+        for (int id = 0; id < runProcesses.length; id++) {
+            runProcesses[id] = runWorkload.toProcess(id);
+        }
         assignInitialPartitions();
-        internalPartitions = new ArrayList<>(partitions);
+        memoryMap = new MemoryMap(partitions);
+        logContext = new LogContext(runWorkload.getNames(), runProcesses, partitionsById);
+
         initialValues();
 
         // Registrar particiones iniciales
         for (Partition part : partitions) {
-            Process dummyProcess = new Process("", 0, Status.NO_BLOQUEADO, part.getSize());
-            dummyProcess.setPartition(part);
-            addLog(dummyProcess, Filter.PARTICIONES);
-        }
-
-        // Clonar procesos manteniendo el orden de entrada
-        ArrayList<Process> processQueue = new ArrayList<>();
-        for (Process p : initialProcesses) {
-            processQueue.add(p.clone());
-        }
-        processQueue.sort((p1, p2) -> Long.compare(p1.getOriginalTime(), p2.getOriginalTime()));
-
-        Process actualProcess = null;
-        int round = 1;
-        // Primera fase: simulación lógica
-        while (!processQueue.isEmpty()) {
-            actualProcess = processQueue.get(0);
-            if (actualProcess.getRound() > round) {
-                round++;
-                addNewPartitions(processQueue);
-            }
-            Process currentProcess = processQueue.remove(0);
-            startCycle(currentProcess, processQueue);
+            addPartitionEvent(PartitionEventType.CREADA, part);
         }
 
-        // Resetear tiempos para segunda fase
-        resetTimes();
+        int[] order = config.getSchedulingPolicy() == SchedulingPolicy.MENOR_TIEMPO_PRIMERO
+                ? runWorkload.idsByOriginalTime()
+                : null;
 
-        // Segunda fase: registrar logs reales con control de rondas
-        processQueue = new ArrayList<>();
-        for (Process p : initialProcesses) {
-            Process clonedProcess = p.clone();
-            clonedProcess.setCycleCount(0); // reiniciar contador interno
-            processQueue.add(clonedProcess);
+        readyQueue = new ReadyQueue(runProcesses.length);
+        drainedTime = 0;
+        settledTime = 0;
+        drainMarks = new long[runProcesses.length];
+        for (int i = 0; i < runProcesses.length; i++) {
+            enqueue(runProcesses[order != null ? order[i] : i]);
         }
-        // processQueue.sort((p1, p2) -> Long.compare(p1.getOriginalTime(),
-        //p2.getOriginalTime()));
+        round = 1;
+    }
+
+    boolean hasPendingProcesses() {
+        return readyQueue != null && !readyQueue.isEmpty();
+    }
 
-        int index = 0; // contador global de rondas
-        int processCount = 0;
-        int totalProcesses = initialProcesses.size();
+    // Un despacho del motor: el primero de la cola ejecuta un quantum
+    Process stepPartitionedSimulation() {
+        Process actualProcess = readyQueue.peek();
+        if (actualProcess.getRound() > round) {
+            round++;
+            settleDrains();
+            addNewPartitions(readyQueue);
+        }
+        Process currentProcess = readyQueue.poll();
+        settleDrain(currentProcess);
+        startCycle(currentProcess, readyQueue);
+        return currentProcess;
+    }
 
-        while (!processQueue.isEmpty()) {
-            Process currentProcess = processQueue.remove(0);
-            startRealCycle(currentProcess, processQueue, index);
-            processCount++;
+    private void finishPartitionedSimulation() {
+        settleDrains();
+        // Las particiones que siguen en memoria toman los límites finales del mapa
+        memoryMap.writeBackLimits();
+    }
 
-            if (processCount == totalProcesses) {
-                index++;
-                processCount = 0;
+    // Cerrar una corrida por pasos: despachar lo que falte y armar el resultado
+    SimulationResult finishStepping() {
+        try {
+            while (hasPendingProcesses()) {
+                stepPartitionedSimulation();
             }
+            finishPartitionedSimulation();
+        } finally {
+            endRun();
         }
+        return buildResult();
+    }
+
+    // Corrida por pasos que falló a mitad: los sinks igual reciben el fin de corrida
+    void abortStepping() {
+        endRun();
+        runWorkload = null;
+    }
 
-        resetTimes();
+    long getRunNumber() {
+        return runNumber;
     }
 
-    public void addNewPartitions(ArrayList<Process> processesToUpdate) {
+    ReadyQueue getReadyQueue() {
+        settleDrains();
+        return readyQueue;
+    }
+
+    MemoryMap getMemoryMap() {
+        settleDrains();
+        return memoryMap;
+    }
+
+    // ← Simulación en modo escala: round robin directo sobre la tabla de procesos.
+    // No pasa por startCycle ni reviewForCondensations (ver setScaleMode).
+    private void runScaleSimulation() {
+        clock = 0;
+
+        processTable.reset();
+        logContext = new LogContext(processTable.getNames(), partitionsById);
+        for (int id = 0; id < processTable.size(); id++) {
+            traceLog(processTable, id, Filter.INICIAL);
+        }
+        dispatchTrace(processTable);
+        processTable.reset();
+    }
+
+    public void addNewPartitions(ReadyQueue processesToUpdate) {
         ArrayList<Partition> partitionsCreated = new ArrayList<>();
         long sizeNewPartitions = 0;
-        for (Process process : processesToUpdate) {
-            Partition partition = assignPartition(process);
+        for (int i = 0; i < processesToUpdate.size(); i++) {
+            Partition partition = assignPartition(processesToUpdate.get(i));
             partitionsCreated.add(partition);
-            internalPartitions.add(internalPartitions.size() - 1, partition);
             sizeNewPartitions += partition.getSize();
         }
+        // Las nuevas particiones se ubican al inicio de la partición libre (la última)
+        Partition freePartition = memoryMap.removeLast();
         long sizeConcretePartition = sizeNewPartitions;
         for (Partition partition : partitionsCreated) {
             partition.setInitialLimit(
-                    (internalPartitions.getLast().getInitialLimit() + sizeNewPartitions) - sizeConcretePartition);
+                    (freePartition.getInitialLimit() + sizeNewPartitions) - sizeConcretePartition);
             sizeConcretePartition -= partition.getSize();
             partition.setFinalLimit(
-                    (internalPartitions.getLast().getInitialLimit() + sizeNewPartitions) - sizeConcretePartition);
+                    (freePartition.getInitialLimit() + sizeNewPartitions) - sizeConcretePartition);
+            memoryMap.add(partition);
+            addPartitionEvent(PartitionEventType.CREADA, partition);
         }
         Partition finalPartition = new Partition(partitionName(),
-                internalPartitions.getLast().getSize() - sizeNewPartitions,
-                internalPartitions.getLast().getInitialLimit() + sizeNewPartitions,
-                internalPartitions.getLast().getFinalLimit());
-        internalPartitions.set(internalPartitions.size() - 1, finalPartition);
+                freePartition.getSize() - sizeNewPartitions,
+                freePartition.getInitialLimit() + sizeNewPartitions,
+                freePartition.getFinalLimit());
+        memoryMap.add(finalPartition);
         addPartition(finalPartition);
+        addPartitionEvent(PartitionEventType.CREADA, finalPartition);
     }
 
     public Partition assignPartition(Process process) {
@@ -242,7 +495,7 @@ public class ProcessManager {
 
     // ← Asignar particiones iniciales con límites
     public void assignInitialPartitions() {
-        for (Process process : initialProcesses) {
+        for (Process process : runProcesses) {
             Partition partition = new Partition(
                     partitionName(),
                     process.getSize(),
@@ -258,60 +511,62 @@ public class ProcessManager {
     }
 
     public void initialValues() {
-        for (Process process : initialProcesses) {
+        for (Process process : runProcesses) {
             addLog(process, Filter.INICIAL);
         }
     }
 
-    // ← CORREGIDO: Ciclo de simulación (primera fase)
-    private void startCycle(Process currentProcess, ArrayList<Process> remainingProcesses) {
+    // ← CORREGIDO: Ciclo de simulación. Cada despacho registra sus logs (listo,
+    // despachar, ejecución...) en el momento, así que hay una sola pasada.
+    private void startCycle(Process currentProcess, ReadyQueue remainingProcesses) {
         currentProcess.addRound();
         currentProcess.addPartitionByRound(currentProcess.getPartition());
+        if (currentProcess.getCycleCount() == 0 && currentProcess.getInitialPartition() != null) {
+            addPartitionEvent(PartitionEventType.ASIGNADA, currentProcess.getInitialPartition());
+        }
         // Registrar en estado listo
         ready(currentProcess);
+        readyLog(currentProcess);
+        dispatch(currentProcess);
+        inExecution(currentProcess);
 
         // Ejecutar quantum
-        long timeToExecute = Math.min(Constants.QUANTUM_TIME, currentProcess.getRemainingTime());
+        long timeToExecute = Math.min(config.getQuantum(), currentProcess.getRemainingTime());
 
         if (currentProcess.getPartition() != null) {
-            currentProcess.getPartition().addExecutionTime(
-                    currentProcess.getName(),
-                    timeToExecute);
+            currentProcess.getPartition().addExecutionTime(timeToExecute);
         }
 
-        currentProcess.subtractTime(Constants.QUANTUM_TIME);
+        currentProcess.subtractTime(config.getQuantum());
         currentProcess.incrementCycle();
-        if (currentProcess.getName().equalsIgnoreCase("p18")) {
-            System.out.println("");
-        }
+        advanceClock();
         // ¿Terminó?
         if (currentProcess.isFinished() || currentProcess.getRemainingTime() <= 0) {
             // Proceso terminado - liberar partición y condensar
             exitStage(currentProcess);
-            substractTimeToOthers(remainingProcesses, currentProcess);
+            substractTimeToOthers(currentProcess);
             reviewForCondensations(remainingProcesses, currentProcess, false);
         } else {
-            reviewForCondensations(remainingProcesses, currentProcess, false);
             // No terminó, volver a la cola
             if (!currentProcess.isBlocked()) {
-                // No bloqueado, volver al final de la cola
-                remainingProcesses.add(currentProcess);
+                // No bloqueado: expiró su quantum
+                expirationTime(currentProcess);
             } else {
-                // Proceso bloqueado, volver a la cola
-                remainingProcesses.add(currentProcess);
+                // Bloqueado: espera su E/S y vuelve a listo
+                blockedTransition(currentProcess);
+                blockedStage(currentProcess);
+                wakeUp(currentProcess);
             }
+            reviewForCondensations(remainingProcesses, currentProcess, false);
+            enqueue(currentProcess);
         }
     }
 
     public void ready(Process process) {
-        try {
-            searchPartition(process.getPartition().getName())
-                    .addExecutionTime(
-                            process.getName(),
-                            process.getRemainingTime() >= Constants.QUANTUM_TIME ? Constants.QUANTUM_TIME
-                                    : process.getRemainingTime());
-        } catch (Exception e) {
-            System.out.println(process.getPartition().getName() + "," + internalPartitions.toString());
+        if (process.getPartition() != null) {
+            process.getPartition().addExecutionTime(
+                    process.getRemainingTime() >= config.getQuantum() ? config.getQuantum()
+                            : process.getRemainingTime());
         }
     }
 
@@ -319,105 +574,165 @@ public class ProcessManager {
         addLog(process, Filter.FINALIZADO);
     }
 
-    public void substractTimeToOthers(ArrayList<Process> remainingProcesses, Process currentProcess) {
+    public void readyLog(Process process) {
+        dispatchLog(process, Filter.LISTO);
+    }
+
+    public void dispatch(Process process) {
+        dispatchLog(process, Filter.DESPACHAR);
+    }
+
+    public void inExecution(Process process) {
+        dispatchLog(process, Filter.EN_EJECUCION);
+    }
+
+    public void expirationTime(Process process) {
+        dispatchLog(process, Filter.TIEMPO_EXPIRADO);
+    }
+
+    public void blockedTransition(Process process) {
+        dispatchLog(process, Filter.TRANSICION_BLOQUEO);
+    }
+
+    public void blockedStage(Process process) {
+        dispatchLog(process, Filter.BLOQUEADO);
+    }
+
+    public void wakeUp(Process process) {
+        dispatchLog(process, Filter.DESPERTAR);
+    }
+
+    // ← Log de un despacho, con lo que mostraba la traza de la simulación en dos
+    // pasadas: la partición inicial del proceso y el tiempo restante según sus
+    // propios quantums. substractTimeToOthers descuenta tiempo a los que están en
+    // su último quantum, pero eso solo cambia el tiempo cargado a las particiones:
+    // el proceso termina en el mismo despacho.
+    private void dispatchLog(Process process, Filter filter) {
+        Partition partition = process.getInitialPartition();
+        long remaining = Math.max(0, process.getOriginalTime() - (long) process.getCycleCount() * config.getQuantum());
+        addLog(new Log(logContext, process.getId(), partition != null ? partition.getId() : -1, remaining,
+                process.getStatus(), process.getSize(), process.getCycleCount(), filter,
+                process.getPartitionHistorySize(), clock));
+    }
+
+    // ← Al salir un proceso, los que esperan en la cola su último quantum pierden
+    // lastTime y lo cargan a su partición. En vez de recorrer la cola en cada
+    // salida se acumula el total descontado, y cada proceso salda la diferencia
+    // con su marca cuando se lo despacha o se lo consulta: cada salida es O(1).
+    public void substractTimeToOthers(Process currentProcess) {
         long lastTime = currentProcess.getRemainingTime() < 0
-                ? currentProcess.getOriginalTime() % Constants.QUANTUM_TIME
-                : Constants.QUANTUM_TIME;
-
-        for (int index = 0; index < remainingProcesses.size(); index++) {
-            if (remainingProcesses.get(index).getRemainingTime() <= Constants.QUANTUM_TIME) {
-                remainingProcesses.get(index).subtractTime(lastTime);
-                if (remainingProcesses.get(index).getPartition() != null) {
-                    searchPartition(remainingProcesses.get(index).getPartition().getName())
-                            .addExecutionTime(remainingProcesses.get(index).getName(), lastTime);
-                }
-            }
+                ? currentProcess.getOriginalTime() % config.getQuantum()
+                : config.getQuantum();
+        drainedTime += lastTime;
+    }
+
+    // Encolar un proceso; si le queda a lo sumo un quantum, empieza a acumular
+    // descuentos desde ahora. Mientras espera su tiempo no cambia de otra forma.
+    private void enqueue(Process process) {
+        drainMarks[process.getId()] = process.getRemainingTime() <= config.getQuantum() ? drainedTime : -1;
+        readyQueue.add(process);
+    }
+
+    // Cargar a un proceso los descuentos acumulados desde su marca. Descontar
+    // varias veces con tope en 0 da lo mismo que descontar la suma una vez.
+    private void settleDrain(Process process) {
+        long mark = drainMarks[process.getId()];
+        if (mark < 0 || mark == drainedTime) {
+            return;
+        }
+        long pending = drainedTime - mark;
+        process.subtractTime(pending);
+        if (process.getPartition() != null) {
+            process.getPartition().addExecutionTime(pending);
+        }
+        drainMarks[process.getId()] = drainedTime;
+    }
+
+    // Saldar toda la cola: antes de cambiar particiones, al terminar y cuando se
+    // consulta la cola o la memoria a mitad de corrida
+    void settleDrains() {
+        if (readyQueue == null || settledTime == drainedTime) {
+            return;
         }
+        for (int i = 0; i < readyQueue.size(); i++) {
+            settleDrain(readyQueue.get(i));
+        }
+        settledTime = drainedTime;
     }
 
-    public void reviewForCondensations(ArrayList<Process> processesForSearch, Process process, boolean isForExpired) {
+    public void reviewForCondensations(ReadyQueue processesForSearch, Process process, boolean isForExpired) {
         int position = partitionPosition(process.getPartition());
         if (position == -1)
             return;
 
-        boolean isPenultimate = position == internalPartitions.size() - 2;
-        Partition removedPartition = null;
-
-        try {
-            removedPartition = internalPartitions.remove(position);
-        } catch (Exception e) {
-            System.out.println(
-                    process.getName() + " " + process.getPartition().getName() + " " + internalPartitions.toString());
-            return;
-        }
+        boolean isPenultimate = position == memoryMap.size() - 2;
+        Partition removedPartition = memoryMap.remove(position);
+        addPartitionEvent(PartitionEventType.LIBERADA, removedPartition);
 
         Condensation condensation = null;
+        int lastPosition = memoryMap.size() - 1;
+
+        // Las particiones que seguían a la liberada se corren hacia el inicio: el
+        // mapa desplaza sus límites y cada una queda como estaba, con sus procesos.
+        // En la primera condensación también se corre la última; en las demás la
+        // última se fusiona con el espacio liberado. Un solo evento por tramo.
+        int lastMoved = isFirstCondensation ? lastPosition : lastPosition - 1;
+        if (position <= lastMoved) {
+            memoryMap.shift(position, lastMoved, -removedPartition.getSize());
+            partitionEvents.add(new PartitionEvent(position, lastMoved, -removedPartition.getSize(), clock));
+        }
 
-        // Mover particiones y crear condensaciones
-        for (int i = position; i < internalPartitions.size(); i++) {
-            if (i == internalPartitions.size() - 1) {
-                // Es la última partición
-                if (isFirstCondensation) {
-                    // Primera condensación: solo mover
-                    movePartition(processesForSearch, i);
-                } else {
-                    // Condensaciones posteriores: fusionar con la última
-                    Partition lastPartition = internalPartitions.get(i);
-
-                    long newSize = removedPartition.getSize() + lastPartition.getSize();
-                    long newInitialLimit = lastPartition.getFinalLimit() - newSize;
-                    long newFinalLimit = lastPartition.getFinalLimit();
-
-                    Partition finalPartition = new Partition(
-                            partitionName(),
-                            newSize,
-                            newInitialLimit,
-                            newFinalLimit);
-
-                    condensation = new Condensation(
-                            "Cond" + (condensations.size() + 1),
-                            removedPartition,
-                            lastPartition);
-
-                    internalPartitions.set(internalPartitions.size() - 1, finalPartition);
-
-                    if (!isPenultimate) {
-                        Compactation compactation = new Compactation(
-                                "Compactación " + (compactations.size() + 1),
-                                condensation.getSize(),
-                                process,
-                                finalPartition,
-                                isForExpired);
-                        compactations.add(compactation);
-                    }
+        if (!isFirstCondensation && lastPosition >= position) {
+            // Condensaciones posteriores: fusionar con la última
+            Partition lastPartition = memoryMap.get(lastPosition);
 
-                    partitions.add(finalPartition);
+            long newSize = removedPartition.getSize() + lastPartition.getSize();
+            long newFinalLimit = memoryMap.getFinalLimit(lastPosition);
+            long newInitialLimit = newFinalLimit - newSize;
 
-                    // ← NUEVO: Registrar la partición fusionada en los logs
-                    Process dummyProcess = new Process("", 0, Status.NO_BLOQUEADO, finalPartition.getSize());
-                    dummyProcess.setPartition(finalPartition);
-                    addLog(dummyProcess, Filter.PARTICIONES);
-                }
-            } else {
-                // No es la última: mover la partición
-                movePartition(processesForSearch, i);
+            Partition finalPartition = new Partition(
+                    partitionName(),
+                    newSize,
+                    newInitialLimit,
+                    newFinalLimit);
+
+            condensation = new Condensation(
+                    "Cond" + (condensations.size() + 1),
+                    removedPartition,
+                    lastPartition);
+
+            memoryMap.set(lastPosition, finalPartition);
+
+            if (!isPenultimate) {
+                Compactation compactation = new Compactation(
+                        "Compactación " + (compactations.size() + 1),
+                        condensation.getSize(),
+                        process,
+                        finalPartition,
+                        isForExpired);
+                compactations.add(compactation);
             }
+
+            addPartition(finalPartition);
+
+            // ← NUEVO: Registrar la partición fusionada
+            addPartitionEvent(PartitionEventType.FUSIONADA, finalPartition);
         }
 
         // Si es la primera condensación, crear partición libre al final
         if (isFirstCondensation) {
             isFirstCondensation = false;
 
-            Partition lastPartition = internalPartitions.get(internalPartitions.size() - 1);
+            long lastFinalLimit = memoryMap.getFinalLimit(memoryMap.size() - 1);
 
             Partition finalPartition = new Partition(
                     partitionName(),
                     removedPartition.getSize(),
-                    lastPartition.getFinalLimit(),
-                    lastPartition.getFinalLimit() + removedPartition.getSize());
+                    lastFinalLimit,
+                    lastFinalLimit + removedPartition.getSize());
 
-            partitions.add(finalPartition);
-            internalPartitions.add(finalPartition);
+            addPartition(finalPartition);
+            memoryMap.add(finalPartition);
 
             Compactation compactation = new Compactation(
                     "Compactación " + (compactations.size() + 1),
@@ -427,10 +742,8 @@ public class ProcessManager {
                     isForExpired);
             compactations.add(compactation);
 
-            // ← NUEVO: Registrar la partición libre creada en los logs
-            Process dummyProcess = new Process("", 0, Status.NO_BLOQUEADO, finalPartition.getSize());
-            dummyProcess.setPartition(finalPartition);
-            addLog(dummyProcess, Filter.PARTICIONES);
+            // ← NUEVO: Registrar la partición libre creada
+            addPartitionEvent(PartitionEventType.CREADA, finalPartition);
         }
 
         if (condensation != null) {
@@ -438,165 +751,376 @@ public class ProcessManager {
         }
     }
 
-    // ← Mover partición recalculando límites
-    public void movePartition(ArrayList<Process> processesForSearch, int i) {
-        long initialLimit = i == 0 ? 0 : internalPartitions.get(i - 1).getFinalLimit();
-        long finalLimit = i == 0 ? internalPartitions.get(i).getSize()
-                : internalPartitions.get(i - 1).getFinalLimit() + internalPartitions.get(i).getSize();
-
-        Partition partitionCreated = new Partition(
-                partitionName(),
-                internalPartitions.get(i).getSize(),
-                initialLimit,
-                finalLimit);
-
-        if (internalPartitions.get(i).getAssignedProcesses().size() > 0) {
-            partitionCreated.addProcess(internalPartitions.get(i).getAssignedProcesses().get(0));
+    public int partitionPosition(Partition partition) {
+        return memoryMap.indexOf(partition);
+    }
 
-            Process processToUpdate = searchProcess(
-                    processesForSearch,
-                    internalPartitions.get(i).getAssignedProcesses().get(0).getName());
+    public String partitionName() {
+        return "Part" + (partitions.size() + 1);
+    }
 
-            if (processToUpdate != null) {
-                processToUpdate.setPartition(partitionCreated);
-                processToUpdate.addToPartitionHistory(partitionCreated);
+    // ← Traza de despacho del modo escala: round robin puro sobre la tabla, en orden
+    // de entrada (con MENOR_TIEMPO_PRIMERO, por tiempo original). Con un quantum
+    // fijo, el ciclo y el tiempo restante de cada despacho se derivan del tiempo
+    // original; los procesos se ejecutan sin partición.
+    private void dispatchTrace(ProcessTable table) {
+        int totalProcesses = table.size();
+        int[] activeProcesses;
+        if (config.getSchedulingPolicy() == SchedulingPolicy.MENOR_TIEMPO_PRIMERO) {
+            activeProcesses = table.idsByOriginalTime();
+        } else {
+            activeProcesses = new int[totalProcesses];
+            for (int id = 0; id < totalProcesses; id++) {
+                activeProcesses[id] = id;
             }
         }
 
-        partitions.add(partitionCreated);
-        internalPartitions.set(i, partitionCreated);
+        int activeCount = totalProcesses;
+        while (activeCount > 0) {
+            int stillActive = 0;
+            for (int k = 0; k < activeCount; k++) {
+                int id = activeProcesses[k];
+                traceLog(table, id, Filter.LISTO);
+                traceLog(table, id, Filter.DESPACHAR);
+                traceLog(table, id, Filter.EN_EJECUCION);
+                table.subtractTime(id, config.getQuantum());
+                table.incrementCycle(id);
+                advanceClock();
+
+                if (table.getRemainingTime(id) > 0) {
+                    if (!table.isBlocked(id)) {
+                        traceLog(table, id, Filter.TIEMPO_EXPIRADO);
+                    } else {
+                        traceLog(table, id, Filter.TRANSICION_BLOQUEO);
+                        traceLog(table, id, Filter.BLOQUEADO);
+                        traceLog(table, id, Filter.DESPERTAR);
+                    }
+                    activeProcesses[stillActive++] = id;
+                } else {
+                    traceLog(table, id, Filter.FINALIZADO);
+                }
+            }
+            activeCount = stillActive;
+        }
+    }
 
-        // ← NUEVO: Registrar la partición movida en los logs
-        Process dummyProcess = new Process("", 0, Status.NO_BLOQUEADO, partitionCreated.getSize());
-        dummyProcess.setPartition(partitionCreated);
-        addLog(dummyProcess, Filter.PARTICIONES);
+    private void traceLog(ProcessTable table, int id, Filter filter) {
+        addLog(new Log(logContext, id, -1, table.getRemainingTime(id), table.getStatus(id), table.getSize(id),
+                table.getCycleCount(id), filter, 0, clock));
     }
 
-    public Process searchProcess(ArrayList<Process> processesForSearch, String name) {
-        for (int i = 0; i < processesForSearch.size(); i++) {
-            if (processesForSearch.get(i).getName().equalsIgnoreCase(name)) {
-                return processesForSearch.get(i);
+    // ========== PROGRESO Y CANCELACIÓN ==========
+
+    // Un quantum despachado; cada PROGRESS_INTERVAL quantums se publica el
+    // progreso y se atiende un pedido de cancelación
+    private void advanceClock() {
+        clock++;
+        processedQuanta++;
+        if (processedQuanta % PROGRESS_INTERVAL == 0) {
+            publishedQuanta = processedQuanta;
+            if (cancelRequested) {
+                throw new CancellationException("Simulación cancelada");
             }
         }
-        return null;
     }
 
-    public int partitionPosition(Partition partition) {
-        for (int i = 0; i < internalPartitions.size(); i++) {
-            if (internalPartitions.get(i).getName().equals(partition.getName())) {
-                return i;
-            }
+    // Despachos de round robin de la carga: una sola pasada en los dos modos
+    private long estimateQuanta(ProcessTable workload) {
+        int quantum = config.getQuantum();
+        long perPass = 0;
+        for (int id = 0; id < workload.size(); id++) {
+            long time = workload.getOriginalTime(id);
+            perPass += Math.max(1, time / quantum + (time % quantum != 0 ? 1 : 0));
         }
-        return -1;
+        return perPass;
     }
 
-    public String partitionName() {
-        return "Part" + (partitions.size() + 1);
+    // Pedir que la corrida en curso se detenga; runSimulation termina con
+    // CancellationException en el próximo aviso de progreso
+    public void cancelSimulation() {
+        cancelRequested = true;
     }
 
-    // ← Segunda fase: registrar logs reales (con múltiples ciclos)
-    private void startRealCycle(Process currentProcess, ArrayList<Process> remainingProcesses, int index) {
-        try {
-            // 🔹 Usamos el índice global (index) para determinar la ronda del proceso
-            if (index < currentProcess.getPartitionHistory().size()) {
-                Partition partitionToUse = currentProcess.getPartitionHistory().get(index);
-                currentProcess.setPartition(partitionToUse);
-
-                // 🔹 Registrar en el log la partición que se está usando en esta ronda
-                Process dummyProcess = new Process("", 0, Status.NO_BLOQUEADO, partitionToUse.getSize());
-                dummyProcess.setPartition(partitionToUse);
-                addLog(dummyProcess, Filter.PARTICIONES);
+    // Olvidar un pedido de cancelación anterior. Lo llama quien lanza la corrida,
+    // desde su hilo y antes de arrancarla: si lo hiciera la corrida al empezar, un
+    // cancelar pedido antes de que arranque el hilo de trabajo se perdería.
+    public void resetCancel() {
+        cancelRequested = false;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    // Quantums procesados de la corrida en curso (se puede leer desde otro hilo)
+    public long getProcessedQuanta() {
+        return publishedQuanta;
+    }
+
+    public long getEstimatedQuanta() {
+        return estimatedQuanta;
+    }
+
+    // Reloj de la corrida: quantums despachados hasta ahora; todos los eventos
+    // tienen un tick menor o igual
+    public long getClock() {
+        return clock;
+    }
+
+    public SimulationConfig getSimulationConfig() {
+        return config;
+    }
+
+    // Configuración para las próximas corridas de runSimulation()
+    public void setSimulationConfig(SimulationConfig config) {
+        this.config = config;
+    }
+
+    public List<Compactation> getCompactations() {
+        return Collections.unmodifiableList(compactations);
+    }
+
+    public List<Condensation> getCondensations() {
+        return Collections.unmodifiableList(condensations);
+    }
+
+    // ========== EVENTOS DE PARTICIONES ==========
+
+    // Una partición en memoria se registra con los límites del mapa
+    private void addPartitionEvent(PartitionEventType type, Partition partition) {
+        int position = memoryMap.indexOf(partition);
+        partitionEvents.add(position >= 0
+                ? new PartitionEvent(type, partition, memoryMap.getInitialLimit(position),
+                        memoryMap.getFinalLimit(position), clock)
+                : new PartitionEvent(type, partition, clock));
+    }
+
+    public List<PartitionEvent> getPartitionEvents() {
+        return Collections.unmodifiableList(partitionEvents);
+    }
+
+    public List<PartitionEvent> getPartitionEvents(PartitionEventType type) {
+        List<PartitionEvent> events = new ArrayList<>();
+        for (PartitionEvent event : partitionEvents) {
+            if (event.getType() == type) {
+                events.add(event);
             }
-        } catch (Exception e) {
-            System.out.println("Error al obtener partición de la ronda " + index + " para " + currentProcess.getName());
         }
+        return events;
+    }
 
-        // 🔹 Ejecuta el ciclo normal del proceso
-        readyLog(currentProcess);
-        dispatch(currentProcess);
-        inExecution(currentProcess); // aquí normalmente incrementas su cycleCount
+    // ========== LOGS ==========
 
-        // 🔹 Verificar si el proceso aún no termina
-        if (currentProcess.getRemainingTime() > 0) {
-            if (!currentProcess.isBlocked()) {
-                expirationTime(currentProcess);
-                remainingProcesses.add(currentProcess);
-            } else {
-                blockedTransition(currentProcess);
-                blockedStage(currentProcess);
-                wakeUp(currentProcess);
-                remainingProcesses.add(currentProcess);
-            }
+    private void addLog(Process process, Filter filter) {
+        Partition partition = process.getPartition();
+        addLog(new Log(logContext, process.getId(), partition != null ? partition.getId() : -1,
+                process.getRemainingTime(), process.getStatus(), process.getSize(), process.getCycleCount(),
+                filter, process.getPartitionHistorySize(), clock));
+    }
+
+    private void addLog(Log log) {
+        for (int i = 0; i < logSinks.size(); i++) {
+            logSinks.get(i).accept(log);
         }
     }
 
-    public void readyLog(Process process) {
-        addLog(process, Filter.LISTO);
+    public void addLogSink(LogSink sink) {
+        logSinks.add(sink);
     }
 
-    public void dispatch(Process process) {
-        addLog(process, Filter.DESPACHAR);
+    public void removeLogSink(LogSink sink) {
+        logSinks.remove(sink);
     }
 
-    public void inExecution(Process process) {
-        addLog(process, Filter.EN_EJECUCION);
-        process.subtractTime(Constants.QUANTUM_TIME);
-        process.incrementCycle(); // ← NUEVO: Incrementar contador de ciclos
+    // Sin retención los logs solo llegan a los sinks agregados y el heap no
+    // crece con la corrida; getLogsByFilter y getAllLogs quedan vacíos
+    public void setRetainLogs(boolean retainLogs) {
+        attachLogStore(retainLogs);
+        config = config.withLogPolicy(!retainLogs ? LogPolicy.SIN_RETENCION
+                : executionLogs instanceof BoundedLogStore ? LogPolicy.ACOTADO : LogPolicy.COMPLETO);
     }
 
-    public void expirationTime(Process process) {
-        addLog(process, Filter.TIEMPO_EXPIRADO);
+    private void attachLogStore(boolean retainLogs) {
+        logSinks.remove(executionLogs);
+        executionLogs = newLogStore();
+        if (retainLogs) {
+            logSinks.add(0, executionLogs);
+        }
     }
 
-    public void blockedTransition(Process process) {
-        addLog(process, Filter.TRANSICION_BLOQUEO);
+    public boolean isRetainingLogs() {
+        return logSinks.contains(executionLogs);
     }
 
-    public void blockedStage(Process process) {
-        addLog(process, Filter.BLOQUEADO);
+    // Retención acotada: solo los últimos eventsPerFilter eventos de cada filtro
+    // quedan en memoria; los anteriores se descartan (spillPath null) o se
+    // agregan comprimidos a spillPath
+    public void setLogRetention(int eventsPerFilter, Path spillPath) throws IOException {
+        LogSpillFile spillFile = spillPath != null ? new LogSpillFile(spillPath) : null;
+        replaceLogStore(new BoundedLogStore(eventsPerFilter, spillFile));
+        attachLogStore(true);
+        config = config.withLogPolicy(LogPolicy.ACOTADO, eventsPerFilter);
     }
 
-    public void wakeUp(Process process) {
-        addLog(process, Filter.DESPERTAR);
+    // Volver a retener todos los eventos
+    public void clearLogRetention() throws IOException {
+        replaceLogStore(new FullLogStore());
+        if (isRetainingLogs()) {
+            config = config.withLogPolicy(LogPolicy.COMPLETO);
+        }
     }
 
-    public void resetTimes() {
-        for (Process process : initialProcesses) {
-            process.resetTime();
+    // Ajustar el almacén de logs a la política de la corrida; un almacén que ya
+    // cumple la política se conserva (con su archivo de desborde, si tiene)
+    private void applyLogPolicy(SimulationConfig runConfig) {
+        try {
+            switch (runConfig.getLogPolicy()) {
+                case COMPLETO:
+                    if (executionLogs instanceof BoundedLogStore) {
+                        replaceLogStore(new FullLogStore());
+                    }
+                    if (!isRetainingLogs()) {
+                        attachLogStore(true);
+                    }
+                    break;
+                case ACOTADO:
+                    if (!(executionLogs instanceof BoundedLogStore bounded
+                            && bounded.getCapacity() == runConfig.getLogCapacity())) {
+                        replaceLogStore(new BoundedLogStore(runConfig.getLogCapacity(), null));
+                    }
+                    if (!isRetainingLogs()) {
+                        attachLogStore(true);
+                    }
+                    break;
+                case SIN_RETENCION:
+                    if (isRetainingLogs()) {
+                        attachLogStore(false);
+                    }
+                    break;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    public ArrayList<Compactation> getCompactations() {
-        return new ArrayList<>(compactations);
+    // Almacén vacío del mismo tipo; el anterior queda como estaba para los
+    // resultados que todavía lo leen
+    private LogStore newLogStore() {
+        if (executionLogs instanceof BoundedLogStore bounded) {
+            if (bounded.getSpillFile() != null) {
+                bounded.getSpillFile().clear();
+            }
+            return new BoundedLogStore(bounded.getCapacity(), bounded.getSpillFile());
+        }
+        return new FullLogStore();
     }
 
-    public ArrayList<Condensation> getCondensations() {
-        return new ArrayList<>(condensations);
+    private void renewLogStore() {
+        int index = logSinks.indexOf(executionLogs);
+        executionLogs = newLogStore();
+        if (index >= 0) {
+            logSinks.set(index, executionLogs);
+        }
     }
 
-    // ========== LOGS ==========
+    private void replaceLogStore(LogStore logStore) throws IOException {
+        boolean retaining = isRetainingLogs();
+        logSinks.remove(executionLogs);
+        if (executionLogs instanceof BoundedLogStore bounded && bounded.getSpillFile() != null) {
+            bounded.getSpillFile().close();
+        }
+        executionLogs = logStore;
+        if (retaining) {
+            logSinks.add(0, executionLogs);
+        }
+    }
 
-    private void addLog(Process process, Filter filter) {
-        Log log = new Log(process, filter);
-        executionLogs.add(log);
+    // Eventos de un filtro que salieron de la retención acotada hacia el archivo de desborde
+    public List<Log> getSpilledLogs(Filter filter) throws IOException {
+        if (executionLogs instanceof BoundedLogStore bounded) {
+            return bounded.getSpilled(filter);
+        }
+        return Collections.emptyList();
     }
 
     public List<Log> getLogsByFilter(Filter filter) {
-        return executionLogs.stream()
-                .filter(log -> log.getFilter() == filter)
-                .collect(Collectors.toList());
+        if (eventLogFile != null) {
+            return eventLogFile.getByFilter(filter);
+        }
+        return executionLogs.getByFilter(filter);
     }
 
     public List<Log> getLogsByFilterAndPartition(Filter filter, String partitionName) {
-        return executionLogs.stream()
-                .filter(log -> log.getFilter() == filter &&
-                        log.getPartition() != null &&
-                        log.getPartition().getName().equalsIgnoreCase(partitionName))
-                .collect(Collectors.toList());
+        if (eventLogFile != null) {
+            List<Log> logs = new ArrayList<>();
+            for (Log log : eventLogFile.getByFilter(filter)) {
+                if (log.getPartitionId() >= 0 && log.getPartitionName().equalsIgnoreCase(partitionName)) {
+                    logs.add(log);
+                }
+            }
+            return logs;
+        }
+        Partition partition = searchPartition(partitionName);
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        return executionLogs.getByFilterAndPartition(filter, partition.getId());
     }
 
-    public ArrayList<Log> getAllLogs() {
-        return new ArrayList<>(executionLogs);
+    public List<Log> getAllLogs() {
+        if (eventLogFile != null) {
+            return eventLogFile.getAll();
+        }
+        return executionLogs.getAll();
+    }
+
+    // ========== REGISTRO EN ARCHIVO ==========
+
+    // Escribir los eventos en un archivo binario mapeado en lugar del heap;
+    // los informes se leen desde el archivo. Con null se vuelve a memoria.
+    public void setEventLogFile(Path path) throws IOException {
+        closeEventLogFile();
+        if (path == null) {
+            setRetainLogs(true);
+            return;
+        }
+        eventLogFile = MappedLogFile.create(path);
+        eventLogPath = path;
+        eventLogRuns = 0;
+        addLogSink(eventLogFile);
+        setRetainLogs(false);
+    }
+
+    // El archivo ya tiene la corrida de un SimulationResult: se cierra (sus
+    // vistas siguen leyendo los mapeos) y la corrida nueva usa otro archivo
+    // junto al pedido, "eventos-2.slog", "eventos-3.slog"...
+    private void nextEventLogFile() {
+        String name = eventLogPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String suffix = "-" + (eventLogRuns + 1);
+        String runName = dot > 0 ? name.substring(0, dot) + suffix + name.substring(dot) : name + suffix;
+        try {
+            MappedLogFile next = MappedLogFile.create(eventLogPath.resolveSibling(runName));
+            logSinks.set(logSinks.indexOf(eventLogFile), next);
+            eventLogFile.close();
+            eventLogFile = next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Reabrir el archivo de una corrida anterior para consultar sus informes
+    public void openEventLogFile(Path path) throws IOException {
+        closeEventLogFile();
+        eventLogFile = MappedLogFile.open(path);
+    }
+
+    public void closeEventLogFile() throws IOException {
+        if (eventLogFile != null) {
+            removeLogSink(eventLogFile);
+            eventLogFile.close();
+            eventLogFile = null;
+        }
     }
 
     // ========== INFORMES ==========
@@ -654,21 +1178,25 @@ public class ProcessManager {
     // ========== LIMPIEZA ==========
 
     public void clearAll() {
-        initialProcesses.clear();
+        processTable.clear();
+        runProcesses = null;
 
         for (Partition p : partitions) {
             p.clearExecutionData();
         }
 
         partitions.clear();
-        executionLogs.clear();
-        internalPartitions.clear();
-        condensations.clear();
-        compactations.clear();
+        partitionsByName.clear();
+        partitionsById = new ArrayList<>();
+        renewLogStore();
+        memoryMap = new MemoryMap();
+        partitionEvents = new ArrayList<>();
+        condensations = new ArrayList<>();
+        compactations = new ArrayList<>();
         isFirstCondensation = true;
     }
 
     public void clearLogs() {
-        executionLogs.clear();
+        renewLogStore();
     }
 }
\ No newline at end of file
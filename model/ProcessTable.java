@@ -0,0 +1,359 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Tabla de procesos en arreglos primitivos: el id del proceso es su índice.
+// Evita un objeto Process (con sus listas de particiones) por proceso cuando
+// la carga tiene millones de procesos.
+public class ProcessTable {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Status[] STATUSES = Status.values();
+
+    private String[] names;
+    private long[] originalTime;
+    private long[] remaining;
+    private long[] size;
+    private int[] cycle;
+    private byte[] status;
+    private int count;
+    private int[] nameIndex;        // Hash abierto por nombre: id + 1, 0 si está libre; null hasta el primer indexOf
+
+    public ProcessTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ProcessTable(int capacity) {
+        capacity = Math.max(capacity, 1);
+        names = new String[capacity];
+        originalTime = new long[capacity];
+        remaining = new long[capacity];
+        size = new long[capacity];
+        cycle = new int[capacity];
+        status = new byte[capacity];
+        count = 0;
+    }
+
+    public static ProcessTable from(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (Process process : processes) {
+            table.add(process.getName(), process.getOriginalTime(), process.getStatus(), process.getSize());
+        }
+        return table;
+    }
+
+    // Copia independiente con los mismos procesos
+    public ProcessTable copy() {
+        ProcessTable table = new ProcessTable(count);
+        System.arraycopy(names, 0, table.names, 0, count);
+        System.arraycopy(originalTime, 0, table.originalTime, 0, count);
+        System.arraycopy(remaining, 0, table.remaining, 0, count);
+        System.arraycopy(size, 0, table.size, 0, count);
+        System.arraycopy(cycle, 0, table.cycle, 0, count);
+        System.arraycopy(status, 0, table.status, 0, count);
+        table.count = count;
+        return table;
+    }
+
+    // Registrar un proceso y devolver su id
+    public int add(String name, long time, Status processStatus, long processSize) {
+        if (count == names.length) {
+            grow();
+        }
+        names[count] = name;
+        originalTime[count] = time;
+        remaining[count] = time;
+        size[count] = processSize;
+        cycle[count] = 0;
+        status[count] = (byte) processStatus.ordinal();
+        if (nameIndex != null) {
+            addToIndex(count);
+        }
+        return count++;
+    }
+
+    // Agregar al final todos los procesos de otra tabla, copiando los arreglos
+    public void addAll(ProcessTable other) {
+        ensureCapacity(count + other.count);
+        System.arraycopy(other.names, 0, names, count, other.count);
+        System.arraycopy(other.originalTime, 0, originalTime, count, other.count);
+        System.arraycopy(other.remaining, 0, remaining, count, other.count);
+        System.arraycopy(other.size, 0, size, count, other.count);
+        System.arraycopy(other.cycle, 0, cycle, count, other.count);
+        System.arraycopy(other.status, 0, status, count, other.count);
+        count += other.count;
+        nameIndex = null;
+    }
+
+    // Tabla nueva con los procesos de los ids indicados, en ese orden
+    public ProcessTable select(int[] ids) {
+        ProcessTable table = new ProcessTable(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int id = ids[i];
+            table.names[i] = names[id];
+            table.originalTime[i] = originalTime[id];
+            table.remaining[i] = remaining[id];
+            table.size[i] = size[id];
+            table.cycle[i] = cycle[id];
+            table.status[i] = status[id];
+        }
+        table.count = ids.length;
+        return table;
+    }
+
+    public void remove(int id) {
+        int moved = count - id - 1;
+        System.arraycopy(names, id + 1, names, id, moved);
+        System.arraycopy(originalTime, id + 1, originalTime, id, moved);
+        System.arraycopy(remaining, id + 1, remaining, id, moved);
+        System.arraycopy(size, id + 1, size, id, moved);
+        System.arraycopy(cycle, id + 1, cycle, id, moved);
+        System.arraycopy(status, id + 1, status, id, moved);
+        count--;
+        names[count] = null;
+        nameIndex = null;   // Los ids siguientes cambiaron
+    }
+
+    public void clear() {
+        Arrays.fill(names, 0, count, null);
+        count = 0;
+        nameIndex = null;
+    }
+
+    // Volver todos los procesos a su tiempo original antes de una simulación
+    public void reset() {
+        System.arraycopy(originalTime, 0, remaining, 0, count);
+        Arrays.fill(cycle, 0, count, 0);
+    }
+
+    public void subtractTime(int id, long time) {
+        remaining[id] = Math.max(0, remaining[id] - time);
+    }
+
+    public void incrementCycle(int id) {
+        cycle[id]++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    // Copia de los nombres por id
+    public String[] getNames() {
+        return Arrays.copyOf(names, count);
+    }
+
+    public String getName(int id) {
+        return names[id];
+    }
+
+    public long getOriginalTime(int id) {
+        return originalTime[id];
+    }
+
+    public long getRemainingTime(int id) {
+        return remaining[id];
+    }
+
+    public long getSize(int id) {
+        return size[id];
+    }
+
+    public int getCycleCount(int id) {
+        return cycle[id];
+    }
+
+    public Status getStatus(int id) {
+        return STATUSES[status[id]];
+    }
+
+    public boolean isBlocked(int id) {
+        return status[id] == Status.BLOQUEADO.ordinal();
+    }
+
+    public void setOriginalTime(int id, long time) {
+        originalTime[id] = time;
+        remaining[id] = time;
+    }
+
+    public void setStatus(int id, Status processStatus) {
+        status[id] = (byte) processStatus.ordinal();
+    }
+
+    public void setSize(int id, long processSize) {
+        size[id] = processSize;
+    }
+
+    // Ids ordenados por tiempo original; a igual tiempo, en orden de entrada
+    public int[] idsByOriginalTime() {
+        return stableOrder(originalTime, count);
+    }
+
+    // Los ids 0..count-1 ordenados por keys[id]; a igual clave, en orden de id.
+    // Si las claves no son negativas y entran junto con el id en un long, se
+    // ordena un long[] de (clave, id) empaquetados; si no, merge sort sobre int[].
+    // En los dos casos sin objetos por proceso.
+    public static int[] stableOrder(long[] keys, int count) {
+        int idBits = 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 1));
+        long maxKey = 0;
+        for (int id = 0; id < count && maxKey >= 0; id++) {
+            maxKey = keys[id] < 0 ? -1 : Math.max(maxKey, keys[id]);
+        }
+        if (maxKey >= 0 && maxKey < 1L << (63 - idBits)) {
+            long[] packed = new long[count];
+            for (int id = 0; id < count; id++) {
+                packed[id] = keys[id] << idBits | id;
+            }
+            Arrays.sort(packed);
+            int[] ids = new int[count];
+            long idMask = (1L << idBits) - 1;
+            for (int i = 0; i < count; i++) {
+                ids[i] = (int) (packed[i] & idMask);
+            }
+            return ids;
+        }
+        return mergeOrder(keys, count);
+    }
+
+    private static int[] mergeOrder(long[] keys, int count) {
+        int[] ids = new int[count];
+        for (int id = 0; id < count; id++) {
+            ids[id] = id;
+        }
+        int[] buffer = new int[count];
+        for (int width = 1; width < count; width *= 2) {
+            for (int from = 0; from < count - width; from += 2 * width) {
+                int middle = from + width;
+                int to = Math.min(from + 2 * width, count);
+                int left = from;
+                int right = middle;
+                int out = from;
+                while (left < middle && right < to) {
+                    buffer[out++] = keys[ids[right]] < keys[ids[left]] ? ids[right++] : ids[left++];
+                }
+                while (left < middle) {
+                    buffer[out++] = ids[left++];
+                }
+                while (right < to) {
+                    buffer[out++] = ids[right++];
+                }
+                System.arraycopy(buffer, from, ids, from, to - from);
+            }
+        }
+        return ids;
+    }
+
+    // ========== BÚSQUEDA POR NOMBRE ==========
+
+    // Id del proceso con ese nombre (sin distinguir mayúsculas), o -1. Con nombres
+    // repetidos devuelve el primero. El índice se arma en la primera búsqueda, se
+    // mantiene al agregar y se descarta al quitar procesos.
+    public int indexOf(String name) {
+        if (nameIndex == null) {
+            rebuildIndex();
+        }
+        int slot = findSlot(name);
+        return nameIndex[slot] - 1;
+    }
+
+    // Registrar un proceso solo si no hay otro con el mismo nombre; devuelve su
+    // id, o -1 si ya estaba. Busca y ubica el nombre con un solo sondeo.
+    public int addIfAbsent(String name, long time, Status processStatus, long processSize) {
+        if (nameIndex == null || (count + 1) * 2 > nameIndex.length) {
+            rebuildIndex();
+        }
+        int slot = findSlot(name);
+        if (nameIndex[slot] != 0) {
+            return -1;
+        }
+        int[] index = nameIndex;
+        nameIndex = null;   // add no lo vuelve a indexar
+        int id = add(name, time, processStatus, processSize);
+        index[slot] = id + 1;
+        nameIndex = index;
+        return id;
+    }
+
+    // Ranura del nombre en el índice, o la ranura libre donde iría
+    private int findSlot(String name) {
+        int mask = nameIndex.length - 1;
+        int slot = hash(name) & mask;
+        while (nameIndex[slot] != 0 && !names[nameIndex[slot] - 1].equalsIgnoreCase(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void addToIndex(int id) {
+        if ((id + 1) * 2 > nameIndex.length) {
+            rebuildIndex();     // Los ids anteriores, con lugar para este
+        }
+        insert(id);
+    }
+
+    private void rebuildIndex() {
+        int capacity = 16;
+        while (capacity < (count + 1) * 2) {
+            capacity *= 2;
+        }
+        nameIndex = new int[capacity];
+        for (int id = 0; id < count; id++) {
+            insert(id);
+        }
+    }
+
+    private void insert(int id) {
+        int mask = nameIndex.length - 1;
+        int slot = hash(names[id]) & mask;
+        while (nameIndex[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        nameIndex[slot] = id + 1;
+    }
+
+    // Igual para nombres que equalsIgnoreCase considera iguales (ASCII sin pasar
+    // por Character). Nombres como P1, P2, ... quedan en ranuras cercanas.
+    private static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // Objeto Process equivalente (solo para la interfaz y los informes)
+    public Process toProcess(int id) {
+        Process process = new Process(names[id], originalTime[id], getStatus(id), size[id]);
+        process.setId(id);
+        return process;
+    }
+
+    private void grow() {
+        ensureCapacity(names.length * 2);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= names.length) {
+            return;
+        }
+        capacity = Math.max(capacity, names.length * 2);
+        names = Arrays.copyOf(names, capacity);
+        originalTime = Arrays.copyOf(originalTime, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        size = Arrays.copyOf(size, capacity);
+        cycle = Arrays.copyOf(cycle, capacity);
+        status = Arrays.copyOf(status, capacity);
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+import java.util.Arrays;
+
+// Sink de perfilado: toma System.nanoTime() cada sampleInterval eventos. Es el
+// único lugar donde se lee el reloj real; los logs solo llevan el reloj de la simulación.
+public class ProfilingLogSink implements LogSink {
+    private int sampleInterval;
+    private long eventCount;
+    private long startNanos;
+    private long endNanos;
+    private long[] sampleEvents;
+    private long[] sampleTicks;
+    private long[] sampleNanos;     // Relativo al inicio de la corrida
+    private int sampleCount;
+
+    public ProfilingLogSink(int sampleInterval) {
+        this.sampleInterval = Math.max(sampleInterval, 1);
+        this.sampleEvents = new long[16];
+        this.sampleTicks = new long[16];
+        this.sampleNanos = new long[16];
+    }
+
+    @Override
+    public void runStarted() {
+        eventCount = 0;
+        sampleCount = 0;
+        endNanos = 0;
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void accept(Log log) {
+        eventCount++;
+        if (eventCount % sampleInterval == 0) {
+            if (sampleCount == sampleEvents.length) {
+                sampleEvents = Arrays.copyOf(sampleEvents, sampleCount * 2);
+                sampleTicks = Arrays.copyOf(sampleTicks, sampleCount * 2);
+                sampleNanos = Arrays.copyOf(sampleNanos, sampleCount * 2);
+            }
+            sampleEvents[sampleCount] = eventCount;
+            sampleTicks[sampleCount] = log.getTick();
+            sampleNanos[sampleCount] = System.nanoTime() - startNanos;
+            sampleCount++;
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        endNanos = System.nanoTime();
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public long getElapsedNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    public double getEventsPerSecond() {
+        long elapsed = getElapsedNanos();
+        return elapsed > 0 ? eventCount * 1_000_000_000.0 / elapsed : 0;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public long getSampleEvents(int sample) {
+        return sampleEvents[sample];
+    }
+
+    public long getSampleTick(int sample) {
+        return sampleTicks[sample];
+    }
+
+    public long getSampleNanos(int sample) {
+        return sampleNanos[sample];
+    }
+}
@@ -0,0 +1,75 @@
+package model;
+
+import java.util.Arrays;
+
+// Cola de listos circular: encolar, desencolar y acceso por posición en O(1)
+public class ReadyQueue {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Process[] elements;
+    private int head;
+    private int size;
+
+    public ReadyQueue() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ReadyQueue(int capacity) {
+        elements = new Process[Math.max(capacity, 1)];
+        head = 0;
+        size = 0;
+    }
+
+    public void add(Process process) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) % elements.length] = process;
+        size++;
+    }
+
+    public Process peek() {
+        return size == 0 ? null : elements[head];
+    }
+
+    public Process poll() {
+        if (size == 0) {
+            return null;
+        }
+        Process process = elements[head];
+        elements[head] = null;
+        head = (head + 1) % elements.length;
+        size--;
+        return process;
+    }
+
+    public Process get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return elements[(head + index) % elements.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        Process[] grown = new Process[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) % elements.length];
+        }
+        elements = grown;
+        head = 0;
+    }
+}
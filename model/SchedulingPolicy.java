@@ -0,0 +1,19 @@
+package model;
+
+// Orden de la cola de listos. En el modo normal ordena la cola del motor, que
+// deja los logs LISTO...DESPERTAR a medida que despacha; en modo escala ordena
+// la ronda de la traza. En los dos modos los informes visibles siguen la política.
+public enum SchedulingPolicy {
+    MENOR_TIEMPO_PRIMERO("Round robin, ordenado por menor tiempo"),
+    ORDEN_DE_LLEGADA("Round robin, en orden de llegada");
+
+    private String description;
+
+    SchedulingPolicy(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+// Configuración inmutable de una corrida. Cada ProcessManager simula con la suya,
+// así que en un mismo proceso pueden correr simulaciones con distinto quantum.
+public final class SimulationConfig {
+    public static final int DEFAULT_LOG_CAPACITY = 10_000;
+
+    private final int quantum;
+    private final SchedulingPolicy schedulingPolicy;
+    private final LogPolicy logPolicy;
+    private final int logCapacity;      // Eventos por filtro con LogPolicy.ACOTADO
+
+    public SimulationConfig(int quantum, SchedulingPolicy schedulingPolicy, LogPolicy logPolicy, int logCapacity) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("El quantum debe ser positivo");
+        }
+        if (logCapacity <= 0) {
+            throw new IllegalArgumentException("La capacidad de logs debe ser positiva");
+        }
+        this.quantum = quantum;
+        this.schedulingPolicy = schedulingPolicy;
+        this.logPolicy = logPolicy;
+        this.logCapacity = logCapacity;
+    }
+
+    public static SimulationConfig defaults() {
+        return new SimulationConfig(Constants.QUANTUM_TIME, SchedulingPolicy.MENOR_TIEMPO_PRIMERO,
+                LogPolicy.COMPLETO, DEFAULT_LOG_CAPACITY);
+    }
+
+    public SimulationConfig withQuantum(int quantum) {
+        return new SimulationConfig(quantum, schedulingPolicy, logPolicy, logCapacity);
+    }
+
+    public SimulationConfig withSchedulingPolicy(SchedulingPolicy schedulingPolicy) {
+        return new SimulationConfig(quantum, schedulingPolicy, logPolicy, logCapacity);
+    }
+
+    public SimulationConfig withLogPolicy(LogPolicy logPolicy) {
+        return new SimulationConfig(quantum, schedulingPolicy, logPolicy, logCapacity);
+    }
+
+    public SimulationConfig withLogPolicy(LogPolicy logPolicy, int logCapacity) {
+        return new SimulationConfig(quantum, schedulingPolicy, logPolicy, logCapacity);
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public SchedulingPolicy getSchedulingPolicy() {
+        return schedulingPolicy;
+    }
+
+    public LogPolicy getLogPolicy() {
+        return logPolicy;
+    }
+
+    public int getLogCapacity() {
+        return logCapacity;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationConfig{" +
+                "quantum=" + quantum +
+                ", schedulingPolicy=" + schedulingPolicy +
+                ", logPolicy=" + logPolicy +
+                ", logCapacity=" + logCapacity +
+                '}';
+    }
+}
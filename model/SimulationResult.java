@@ -0,0 +1,255 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Resultado inmutable de una corrida: vistas de solo lectura y búsquedas
+// precalculadas al terminar. Las particiones de eventos, condensaciones y
+// compactaciones son copias tomadas al terminar (clearExecutionData y las
+// corridas siguientes cambian las vivas); los logs vienen de un almacén o de
+// un archivo que la corrida siguiente ya no escribe (ProcessManager usa un
+// archivo por corrida). Así el resultado no cambia y se puede leer desde otro hilo.
+public final class SimulationResult {
+    private final SimulationConfig config;
+    private final long clock;
+    private final ProcessTable workload;                   // Copia de los procesos de entrada
+    private final List<Process> initialProcesses;
+    private final List<PartitionSummary> partitions;       // Una fila por partición, en orden de creación
+    private final List<PartitionSummary> finalizationReport; // Por tiempo total de ejecución
+    private final HashMap<String, PartitionSummary> partitionsByName;
+    private final EnumMap<Filter, List<Log>> logsByFilter;
+    private final List<Log> allLogs;
+    private final LogStore logStore;                       // null: logs en archivo o sin retención
+    private final List<PartitionEvent> partitionEvents;
+    private final List<Condensation> condensations;
+    private final List<Compactation> compactations;
+
+    SimulationResult(SimulationConfig config, long clock, ProcessTable workload, List<Partition> partitions,
+            LogStore logStore, MappedLogFile logFile, Map<Partition, Partition> frozenPartitions,
+            List<PartitionEvent> partitionEvents, List<Condensation> condensations,
+            List<Compactation> compactations) {
+        this.config = config;
+        this.clock = clock;
+        this.workload = workload;
+        this.initialProcesses = new AbstractList<Process>() {
+            @Override
+            public Process get(int index) {
+                if (index < 0 || index >= workload.size()) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+                            + workload.size());
+                }
+                return workload.toProcess(index);
+            }
+
+            @Override
+            public int size() {
+                return workload.size();
+            }
+        };
+
+        // Las particiones siguen cambiando en otras corridas: se guardan sus datos.
+        // Los límites son los del mapa de memoria al salir la partición o al
+        // terminar la corrida; las movidas no agregan filas.
+        ArrayList<PartitionSummary> summaries = new ArrayList<>(partitions.size());
+        HashMap<String, PartitionSummary> byName = new HashMap<>();
+        for (Partition partition : partitions) {
+            PartitionSummary summary = new PartitionSummary(partition.getId(), partition.getName(),
+                    partition.getSize(), partition.getInitialLimit(), partition.getFinalLimit(),
+                    partition.getProcessHistoryString(), partition.getTotalExecutionTime());
+            summaries.add(summary);
+            byName.putIfAbsent(summary.getName().toLowerCase(), summary);
+        }
+        ArrayList<PartitionSummary> report = new ArrayList<>(summaries);
+        report.sort((p1, p2) -> Long.compare(p1.getTotalTime(), p2.getTotalTime()));
+        this.partitions = Collections.unmodifiableList(summaries);
+        this.finalizationReport = Collections.unmodifiableList(report);
+        this.partitionsByName = byName;
+
+        this.logsByFilter = new EnumMap<>(Filter.class);
+        for (Filter filter : Filter.values()) {
+            logsByFilter.put(filter, logFile != null ? logFile.getByFilter(filter)
+                    : logStore != null ? logStore.getByFilter(filter) : Collections.emptyList());
+        }
+        this.allLogs = logFile != null ? logFile.getAll()
+                : logStore != null ? logStore.getAll() : Collections.emptyList();
+        this.logStore = logFile == null ? logStore : null;
+
+        ArrayList<PartitionEvent> events = new ArrayList<>(partitionEvents.size());
+        for (PartitionEvent event : partitionEvents) {
+            events.add(event.getPartition() != null
+                    ? event.withPartition(frozen(frozenPartitions, event.getPartition())) : event);
+        }
+        ArrayList<Condensation> condensationCopies = new ArrayList<>(condensations.size());
+        for (Condensation condensation : condensations) {
+            ArrayList<Partition> condensed = condensation.getPartitions();
+            Partition[] copies = new Partition[condensed.size()];
+            for (int i = 0; i < copies.length; i++) {
+                copies[i] = frozen(frozenPartitions, condensed.get(i));
+            }
+            condensationCopies.add(new Condensation(condensation.getName(), copies));
+        }
+        ArrayList<Compactation> compactationCopies = new ArrayList<>(compactations.size());
+        for (Compactation compactation : compactations) {
+            Partition created = compactation.getPartitionCreated();
+            compactationCopies.add(new Compactation(compactation.getName(), compactation.getSize(),
+                    compactation.getProcess(), created != null ? frozen(frozenPartitions, created) : null,
+                    compactation.isForExpired()));
+        }
+        this.partitionEvents = Collections.unmodifiableList(events);
+        this.condensations = Collections.unmodifiableList(condensationCopies);
+        this.compactations = Collections.unmodifiableList(compactationCopies);
+    }
+
+    // Copia de una partición viva; las que no se registraron se copian acá
+    private static Partition frozen(Map<Partition, Partition> frozenPartitions, Partition partition) {
+        return frozenPartitions.computeIfAbsent(partition, Partition::copy);
+    }
+
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    // Reloj al terminar: quantums despachados en la corrida (tiempo simulado)
+    public long getClock() {
+        return clock;
+    }
+
+    // ========== PROCESOS ==========
+
+    public int getProcessCount() {
+        return workload.size();
+    }
+
+    // Vista de los procesos de entrada; cada Process se arma al pedirlo. Para
+    // recorrerlos muchas veces conviene leer por índice (getProcessName...).
+    public List<Process> getInitialProcesses() {
+        return initialProcesses;
+    }
+
+    // Datos del proceso de entrada en la posición index, leídos de la tabla
+    public String getProcessName(int index) {
+        return workload.getName(index);
+    }
+
+    public long getOriginalTime(int index) {
+        return workload.getOriginalTime(index);
+    }
+
+    public Status getStatus(int index) {
+        return workload.getStatus(index);
+    }
+
+    public long getSize(int index) {
+        return workload.getSize(index);
+    }
+
+    // ========== PARTICIONES ==========
+
+    // Informe de particiones, en orden de creación
+    public List<PartitionSummary> getPartitions() {
+        return partitions;
+    }
+
+    public List<PartitionSummary> getPartitionFinalizationReport() {
+        return finalizationReport;
+    }
+
+    public PartitionSummary findPartition(String name) {
+        return partitionsByName.get(name.trim().toLowerCase());
+    }
+
+    public List<PartitionEvent> getPartitionEvents() {
+        return partitionEvents;
+    }
+
+    public List<Condensation> getCondensations() {
+        return condensations;
+    }
+
+    public List<Compactation> getCompactations() {
+        return compactations;
+    }
+
+    // ========== LOGS ==========
+
+    public List<Log> getLogsByFilter(Filter filter) {
+        return logsByFilter.get(filter);
+    }
+
+    public List<Log> getLogsByFilterAndPartition(Filter filter, String partitionName) {
+        PartitionSummary partition = findPartition(partitionName);
+        if (logStore != null) {
+            return partition != null
+                    ? logStore.getByFilterAndPartition(filter, partition.getId())
+                    : Collections.emptyList();
+        }
+        // Logs en archivo: se recorre el filtro comparando nombres
+        List<Log> logs = new ArrayList<>();
+        for (Log log : logsByFilter.get(filter)) {
+            if (log.getPartitionId() >= 0 && log.getPartitionName().equalsIgnoreCase(partitionName)) {
+                logs.add(log);
+            }
+        }
+        return Collections.unmodifiableList(logs);
+    }
+
+    public List<Log> getAllLogs() {
+        return allLogs;
+    }
+
+    // ========== PARTICIONES AL TERMINAR ==========
+
+    public static final class PartitionSummary {
+        private final int id;
+        private final String name;
+        private final long size;
+        private final long initialLimit;
+        private final long finalLimit;
+        private final String processNames;
+        private final long totalTime;
+
+        public PartitionSummary(int id, String name, long size, long initialLimit, long finalLimit,
+                String processNames, long totalTime) {
+            this.id = id;
+            this.name = name;
+            this.size = size;
+            this.initialLimit = initialLimit;
+            this.finalLimit = finalLimit;
+            this.processNames = processNames;
+            this.totalTime = totalTime;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getInitialLimit() {
+            return initialLimit;
+        }
+
+        public long getFinalLimit() {
+            return finalLimit;
+        }
+
+        public String getProcessNames() {
+            return processNames;
+        }
+
+        public long getTotalTime() {
+            return totalTime;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Simulación por pasos sobre un ProcessManager: cada paso es un despacho del
+// motor (un proceso ejecuta un quantum) y deja sus logs (LISTO, DESPACHAR...).
+// Entre pasos se pueden consultar la cola de listos y el mapa de memoria, y la
+// corrida sigue desde donde quedó. Al terminar, finish() devuelve el resultado,
+// igual que runSimulation. Iniciar otra corrida en el mismo ProcessManager invalida
+// este objeto.
+public class SimulationStepper {
+    private ProcessManager manager;
+    private long runNumber;
+    private ProcessState lastProcess;   // Último proceso despachado, como quedó tras su quantum
+    private SimulationResult result;    // null hasta finish()
+    private boolean failed;
+
+    SimulationStepper(ProcessManager manager, long runNumber) {
+        this.manager = manager;
+        this.runNumber = runNumber;
+    }
+
+    // Un despacho; false si ya no quedaban procesos en la cola
+    public boolean step() {
+        checkActive();
+        if (!manager.hasPendingProcesses()) {
+            return false;
+        }
+        try {
+            lastProcess = new ProcessState(manager.stepPartitionedSimulation());
+        } catch (RuntimeException e) {
+            failed = true;
+            manager.abortStepping();
+            throw e;
+        }
+        return true;
+    }
+
+    // Hasta quanta despachos; devuelve cuántos se hicieron
+    public int stepQuantum(int quanta) {
+        int steps = 0;
+        while (steps < quanta && step()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    // Despachar hasta que se cumpla la condición (se evalúa antes de cada paso)
+    // o se vacíe la cola; devuelve cuántos despachos se hicieron
+    public long runUntil(Predicate<SimulationStepper> condition) {
+        long steps = 0;
+        while (!condition.test(this) && step()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    // Despachar lo que falte y devolver el resultado de la corrida
+    public SimulationResult finish() {
+        if (result != null) {
+            return result;
+        }
+        checkActive();
+        try {
+            result = manager.finishStepping();
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        return result;
+    }
+
+    private void checkActive() {
+        if (result != null) {
+            throw new IllegalStateException("La simulación por pasos ya terminó");
+        }
+        if (failed) {
+            throw new IllegalStateException("La simulación por pasos se detuvo por un error");
+        }
+        if (manager.getRunNumber() != runNumber) {
+            throw new IllegalStateException("Se inició otra corrida en el mismo ProcessManager");
+        }
+    }
+
+    // ========== ESTADO ACTUAL ==========
+
+    // Ya no quedan procesos por despachar (falta finish() para el resultado)
+    public boolean isFinished() {
+        return result != null || failed || manager.getRunNumber() != runNumber || !manager.hasPendingProcesses();
+    }
+
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    // Quantums despachados hasta ahora
+    public long getClock() {
+        return manager.getClock();
+    }
+
+    public ProcessState getLastProcess() {
+        return lastProcess;
+    }
+
+    // Cola de listos en este momento, del próximo a despachar al último. Es una
+    // copia de solo lectura: los pasos siguientes no la cambian. Vacía si la
+    // corrida terminó o fue reemplazada por otra.
+    public List<ProcessState> getReadyQueue() {
+        if (manager.getRunNumber() != runNumber) {
+            return Collections.emptyList();
+        }
+        ReadyQueue queue = manager.getReadyQueue();
+        if (queue == null) {
+            return Collections.emptyList();
+        }
+        List<ProcessState> snapshot = new ArrayList<>(queue.size());
+        for (int i = 0; i < queue.size(); i++) {
+            snapshot.add(new ProcessState(queue.get(i)));
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    // Particiones en memoria, en orden de posición, con los límites de este momento
+    public List<SimulationResult.PartitionSummary> getMemoryLayout() {
+        MemoryMap memoryMap = manager.getMemoryMap();
+        List<SimulationResult.PartitionSummary> layout = new ArrayList<>(memoryMap.size());
+        for (int position = 0; position < memoryMap.size(); position++) {
+            Partition partition = memoryMap.get(position);
+            layout.add(new SimulationResult.PartitionSummary(partition.getId(), partition.getName(),
+                    partition.getSize(), memoryMap.getInitialLimit(position), memoryMap.getFinalLimit(position),
+                    partition.getProcessHistoryString(), partition.getTotalExecutionTime()));
+        }
+        return Collections.unmodifiableList(layout);
+    }
+
+    // ========== ESTADO DE UN PROCESO ==========
+
+    // Copia inmutable de un proceso del motor en un paso dado
+    public static final class ProcessState {
+        private final int id;
+        private final String name;
+        private final long originalTime;
+        private final long remainingTime;
+        private final Status status;
+        private final long size;
+        private final int cycleCount;
+        private final String partitionName; // Partición actual, o "" si no tiene
+
+        private ProcessState(Process process) {
+            this.id = process.getId();
+            this.name = process.getName();
+            this.originalTime = process.getOriginalTime();
+            this.remainingTime = process.getRemainingTime();
+            this.status = process.getStatus();
+            this.size = process.getSize();
+            this.cycleCount = process.getCycleCount();
+            this.partitionName = process.getPartition() != null ? process.getPartition().getName() : "";
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getOriginalTime() {
+            return originalTime;
+        }
+
+        public long getRemainingTime() {
+            return remainingTime;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public int getCycleCount() {
+            return cycleCount;
+        }
+
+        public String getPartitionName() {
+            return partitionName;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
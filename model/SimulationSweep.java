@@ -0,0 +1,242 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Barrido de parámetros sin interfaz: cada punto (carga + configuración, en modo
+// normal o escala) se simula en su propio ProcessManager dentro de un ForkJoinPool.
+// Los puntos no comparten estado y no retienen logs; solo se acumulan métricas por punto.
+public class SimulationSweep {
+
+    private SimulationSweep() {
+    }
+
+    // Un punto por cada combinación de carga y quantum, sobre la configuración base
+    public static List<Point> grid(List<String> workloadNames, List<List<Process>> workloads, int[] quanta,
+            SimulationConfig baseConfig) {
+        return grid(workloadNames, workloads, quanta, baseConfig, false);
+    }
+
+    public static List<Point> grid(List<String> workloadNames, List<List<Process>> workloads, int[] quanta,
+            SimulationConfig baseConfig, boolean scaleMode) {
+        List<Point> points = new ArrayList<>();
+        for (int w = 0; w < workloads.size(); w++) {
+            for (int quantum : quanta) {
+                points.add(new Point(workloadNames.get(w), workloads.get(w), baseConfig.withQuantum(quantum),
+                        scaleMode));
+            }
+        }
+        return points;
+    }
+
+    public static List<Result> run(List<Point> points) {
+        return run(points, ForkJoinPool.commonPool());
+    }
+
+    // Resultados en el mismo orden que los puntos
+    public static List<Result> run(List<Point> points, ForkJoinPool pool) {
+        List<Callable<Result>> tasks = new ArrayList<>(points.size());
+        for (Point point : points) {
+            tasks.add(() -> runPoint(point));
+        }
+
+        List<Result> results = new ArrayList<>(points.size());
+        for (Future<Result> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Barrido interrumpido", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Error en el barrido", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static Result runPoint(Point point) {
+        ProcessManager manager = new ProcessManager(false);
+        manager.setScaleMode(point.isScaleMode());
+        for (Process process : point.getWorkload()) {
+            manager.addProcess(process.getName(), process.getOriginalTime(), process.getStatus(), process.getSize());
+        }
+        MetricsSink metrics = new MetricsSink();
+        manager.addLogSink(metrics);
+
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            manager.runSimulation(point.getConfig().withLogPolicy(LogPolicy.SIN_RETENCION));
+        } catch (RuntimeException e) {
+            error = e.toString();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(point, point.getWorkload().size(), metrics.total, metrics.finished,
+                metrics.finished > 0 ? (double) metrics.finishTickSum / metrics.finished : 0,
+                metrics.lastFinishTick, manager.getClock(), manager.getCondensations().size(),
+                manager.getCompactations().size(), manager.getPartitionEvents().size(), elapsed, error);
+    }
+
+    // Cuenta eventos y salidas sin guardar los logs
+    private static class MetricsSink implements LogSink {
+        private long total;
+        private long finished;
+        private long finishTickSum;
+        private long lastFinishTick;
+
+        @Override
+        public void accept(Log log) {
+            total++;
+            // Cada proceso sale una sola vez: del motor, o de la traza en modo escala
+            if (log.getFilter() == Filter.FINALIZADO) {
+                finished++;
+                finishTickSum += log.getTick();
+                lastFinishTick = Math.max(lastFinishTick, log.getTick());
+            }
+        }
+    }
+
+    // ========== PUNTOS Y RESULTADOS ==========
+
+    public static class Point {
+        private String workloadName;
+        private List<Process> workload;
+        private SimulationConfig config;
+        private boolean scaleMode;      // Simular con ProcessManager.setScaleMode(true)
+
+        public Point(String workloadName, List<Process> workload, SimulationConfig config) {
+            this(workloadName, workload, config, false);
+        }
+
+        public Point(String workloadName, List<Process> workload, SimulationConfig config, boolean scaleMode) {
+            this.workloadName = workloadName;
+            this.workload = workload;
+            this.config = config;
+            this.scaleMode = scaleMode;
+        }
+
+        public String getWorkloadName() {
+            return workloadName;
+        }
+
+        public List<Process> getWorkload() {
+            return workload;
+        }
+
+        public SimulationConfig getConfig() {
+            return config;
+        }
+
+        public boolean isScaleMode() {
+            return scaleMode;
+        }
+    }
+
+    public static class Result {
+        private Point point;
+        private int processCount;
+        private long eventCount;
+        private long finishedCount;
+        private double averageTurnaround;   // En quantums
+        private long makespan;              // Tick de la última salida
+        private long clock;                 // Reloj al terminar, en la misma escala que makespan
+        private int condensationCount;
+        private int compactationCount;
+        private int partitionEventCount;
+        private long elapsedNanos;
+        private String error;               // null si la simulación terminó bien
+
+        public Result(Point point, int processCount, long eventCount, long finishedCount, double averageTurnaround,
+                long makespan, long clock, int condensationCount, int compactationCount,
+                int partitionEventCount, long elapsedNanos, String error) {
+            this.point = point;
+            this.processCount = processCount;
+            this.eventCount = eventCount;
+            this.finishedCount = finishedCount;
+            this.averageTurnaround = averageTurnaround;
+            this.makespan = makespan;
+            this.clock = clock;
+            this.condensationCount = condensationCount;
+            this.compactationCount = compactationCount;
+            this.partitionEventCount = partitionEventCount;
+            this.elapsedNanos = elapsedNanos;
+            this.error = error;
+        }
+
+        public Point getPoint() {
+            return point;
+        }
+
+        public String getWorkloadName() {
+            return point.getWorkloadName();
+        }
+
+        public int getQuantum() {
+            return point.getConfig().getQuantum();
+        }
+
+        public int getProcessCount() {
+            return processCount;
+        }
+
+        public long getEventCount() {
+            return eventCount;
+        }
+
+        public long getFinishedCount() {
+            return finishedCount;
+        }
+
+        public double getAverageTurnaround() {
+            return averageTurnaround;
+        }
+
+        public long getMakespan() {
+            return makespan;
+        }
+
+        public long getClock() {
+            return clock;
+        }
+
+        public int getCondensationCount() {
+            return condensationCount;
+        }
+
+        public int getCompactationCount() {
+            return compactationCount;
+        }
+
+        public int getPartitionEventCount() {
+            return partitionEventCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+
+        @Override
+        public String toString() {
+            return point.getWorkloadName() + " q=" + getQuantum() + (point.isScaleMode() ? " escala" : "")
+                    + (error != null ? " ERROR " + error
+                            : " eventos=" + eventCount + " salidas=" + finishedCount
+                            + " retorno=" + String.format("%.2f", averageTurnaround)
+                            + " makespan=" + makespan + " reloj=" + clock
+                            + " condensaciones=" + condensationCount + " compactaciones=" + compactationCount)
+                    + " ms=" + elapsedNanos / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package model;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Cargas de trabajo sintéticas y reproducibles para pruebas de escala: la misma
+// semilla da siempre los mismos procesos (P1, P2, ...). Tiempo y tamaño salen de
+// un rango con la distribución elegida; cada proceso queda bloqueado con la
+// probabilidad indicada. Inmutable, como SimulationConfig.
+public final class WorkloadGenerator {
+
+    public enum Distribution {
+        UNIFORME("Uniforme en el rango"),
+        EXPONENCIAL("Exponencial desde el mínimo: muchos valores chicos y pocos grandes");
+
+        private String description;
+
+        Distribution(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final long seed;
+    private final int count;
+    private final long minTime;
+    private final long maxTime;
+    private final Distribution timeDistribution;
+    private final long minSize;
+    private final long maxSize;
+    private final Distribution sizeDistribution;
+    private final double blockedProbability;
+
+    public WorkloadGenerator(long seed, int count, long minTime, long maxTime, Distribution timeDistribution,
+                             long minSize, long maxSize, Distribution sizeDistribution, double blockedProbability) {
+        if (count < 0) {
+            throw new IllegalArgumentException("La cantidad de procesos no puede ser negativa");
+        }
+        checkRange("tiempo", minTime, maxTime);
+        checkRange("tamaño", minSize, maxSize);
+        if (!(blockedProbability >= 0 && blockedProbability <= 1)) {
+            throw new IllegalArgumentException("La probabilidad de bloqueo debe estar entre 0 y 1");
+        }
+        this.seed = seed;
+        this.count = count;
+        this.minTime = minTime;
+        this.maxTime = maxTime;
+        this.timeDistribution = timeDistribution;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.sizeDistribution = sizeDistribution;
+        this.blockedProbability = blockedProbability;
+    }
+
+    private static void checkRange(String field, long min, long max) {
+        if (min <= 0 || max < min || max == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Rango de " + field + " inválido: " + min + ".." + max);
+        }
+    }
+
+    // Tiempos de 1 a 50 y tamaños de 1 a 500, uniformes, la mitad bloqueados
+    public static WorkloadGenerator of(long seed, int count) {
+        return new WorkloadGenerator(seed, count, 1, 50, Distribution.UNIFORME,
+                1, 500, Distribution.UNIFORME, 0.5);
+    }
+
+    public WorkloadGenerator withCount(int count) {
+        return new WorkloadGenerator(seed, count, minTime, maxTime, timeDistribution,
+                minSize, maxSize, sizeDistribution, blockedProbability);
+    }
+
+    public WorkloadGenerator withTime(long minTime, long maxTime, Distribution distribution) {
+        return new WorkloadGenerator(seed, count, minTime, maxTime, distribution,
+                minSize, maxSize, sizeDistribution, blockedProbability);
+    }
+
+    public WorkloadGenerator withSize(long minSize, long maxSize, Distribution distribution) {
+        return new WorkloadGenerator(seed, count, minTime, maxTime, timeDistribution,
+                minSize, maxSize, distribution, blockedProbability);
+    }
+
+    public WorkloadGenerator withBlockedProbability(double blockedProbability) {
+        return new WorkloadGenerator(seed, count, minTime, maxTime, timeDistribution,
+                minSize, maxSize, sizeDistribution, blockedProbability);
+    }
+
+    // ========== GENERACIÓN ==========
+
+    // Procesos generados de a uno, sin guardarlos: sirve para millones de procesos.
+    // Cada llamada empieza de nuevo desde la semilla.
+    public Stream<Process> stream() {
+        Spliterator<Process> spliterator = new Spliterators.AbstractSpliterator<Process>(count,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE) {
+            private SplittableRandom random = new SplittableRandom(seed);
+            private int next = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Process> action) {
+                if (next == count) {
+                    return false;
+                }
+                long time = nextValue(random, minTime, maxTime, timeDistribution);
+                long size = nextValue(random, minSize, maxSize, sizeDistribution);
+                Status status = nextStatus(random);
+                action.accept(new Process(name(next++), time, status, size));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // Los mismos procesos que stream(), directo a los arreglos de una ProcessTable
+    public ProcessTable toTable() {
+        ProcessTable table = new ProcessTable(count);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < count; i++) {
+            long time = nextValue(random, minTime, maxTime, timeDistribution);
+            long size = nextValue(random, minSize, maxSize, sizeDistribution);
+            table.add(name(i), time, nextStatus(random), size);
+        }
+        return table;
+    }
+
+    // Agregar los procesos generados al ProcessManager; en modo escala no se crea
+    // ningún objeto Process. Devuelve la cantidad agregada.
+    public int addTo(ProcessManager manager) {
+        String[] existing = manager.getProcessNames();
+        if (existing.length > 0) {
+            HashSet<String> names = new HashSet<>();
+            for (String name : existing) {
+                names.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+            for (int i = 0; i < count; i++) {
+                if (names.contains(name(i).toLowerCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("El proceso " + name(i) + " ya existe");
+                }
+            }
+        }
+        manager.addProcesses(toTable());
+        return count;
+    }
+
+    private static String name(int index) {
+        return "P" + (index + 1);
+    }
+
+    private static long nextValue(SplittableRandom random, long min, long max, Distribution distribution) {
+        if (distribution == Distribution.EXPONENCIAL) {
+            // Media en un cuarto del rango; lo que pasa del máximo queda en el máximo
+            double mean = Math.max(1.0, (max - min) / 4.0);
+            double value = -mean * Math.log(1.0 - random.nextDouble());
+            return Math.min(max, min + (long) value);
+        }
+        return random.nextLong(min, max + 1);
+    }
+
+    private Status nextStatus(SplittableRandom random) {
+        return random.nextDouble() < blockedProbability ? Status.BLOQUEADO : Status.NO_BLOQUEADO;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadGenerator{" +
+                "seed=" + seed +
+                ", count=" + count +
+                ", time=" + minTime + ".." + maxTime + " " + timeDistribution +
+                ", size=" + minSize + ".." + maxSize + " " + sizeDistribution +
+                ", blockedProbability=" + blockedProbability +
+                '}';
+    }
+}
@@ -0,0 +1,273 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+// Carga de procesos desde un archivo de texto, una línea por proceso:
+//   nombre,tiempo,estado,tamaño[,llegada]
+// Estado: B/N, Bloqueado/No bloqueado o BLOQUEADO/NO_BLOQUEADO (sin distinguir
+// mayúsculas). Se ignoran las líneas vacías, las que empiezan con '#' y una
+// primera línea de encabezado (la que tiene "tiempo" en la columna del tiempo).
+// Cualquier otro tiempo que no sea un número es un error, también en la primera línea.
+//
+// Se lee por bloques de bytes y cada campo se interpreta en el lugar, sin
+// partir la línea en Strings; solo el nombre se convierte a String. Los procesos
+// se validan en una tabla aparte y se agregan al final, así que un archivo con
+// errores no deja una carga a medias. Los nombres repetidos se detectan con el
+// índice por nombre de la misma tabla (ProcessTable.addIfAbsent), sin buscar en
+// la lista por cada línea ni crear objetos por proceso.
+//
+// El motor no tiene tiempos de llegada: la llegada solo ordena los procesos
+// (orden estable) antes de agregarlos, que es el orden que usa ORDEN_DE_LLEGADA.
+public class WorkloadLoader {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int EOF = -1;
+
+    private InputStream in;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private byte[] token;           // Bytes del nombre en curso
+    private int lineNumber;
+
+    private WorkloadLoader(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.token = new byte[64];
+    }
+
+    public static int load(Path path, ProcessManager manager) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return load(in, manager);
+        }
+    }
+
+    // Devuelve la cantidad de procesos agregados
+    public static int load(InputStream in, ProcessManager manager) throws IOException {
+        HashSet<String> existingNames = new HashSet<>();    // Los que ya tenía el ProcessManager
+        for (String name : manager.getProcessNames()) {
+            existingNames.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+        ProcessTable table = new WorkloadLoader(in).read(existingNames);
+        manager.addProcesses(table);
+        return table.size();
+    }
+
+    private ProcessTable read(HashSet<String> existingNames) throws IOException {
+        ProcessTable table = new ProcessTable(1024);
+        long[] arrivals = null;         // Solo si alguna línea trae llegada
+        boolean sorted = true;
+        long lastArrival = Long.MIN_VALUE;
+        boolean firstLine = true;
+
+        int c;
+        while ((c = skipSpaces()) != EOF) {
+            lineNumber++;
+            if (c == '\n' || c == '\r') {
+                skipLineEnd();
+                continue;
+            }
+            if (c == '#') {
+                skipLine();
+                continue;
+            }
+
+            String name = readName();
+            expect(',');
+            if (firstLine) {
+                firstLine = false;
+                // Encabezado: la columna del tiempo dice "tiempo"
+                int next = skipSpaces();
+                if (next != EOF && (next < '0' || next > '9')) {
+                    if (!matches(readToken(), "TIEMPO")) {
+                        throw error("el tiempo debe ser un número entero no negativo");
+                    }
+                    skipLine();
+                    continue;
+                }
+            }
+            long time = readLong("tiempo");
+            expect(',');
+            Status status = readStatus();
+            expect(',');
+            long size = readLong("tamaño");
+            long arrival = 0;
+            boolean hasArrival = skipSpaces() == ',';
+            if (hasArrival) {
+                position++;
+                arrival = readLong("llegada");
+            }
+            int end = skipSpaces();
+            if (end != EOF && end != '\n' && end != '\r') {
+                throw error("sobran datos al final de la línea");
+            }
+            skipLineEnd();
+
+            int id = existingNames.isEmpty() || !existingNames.contains(name.toLowerCase(Locale.ROOT))
+                    ? table.addIfAbsent(name, time, status, size)
+                    : -1;
+            if (id == -1) {
+                throw error("el proceso " + name + " está repetido");
+            }
+            if (hasArrival || arrivals != null) {
+                if (arrivals == null) {
+                    arrivals = new long[Math.max(1024, id * 2)]; // Los anteriores llegan en 0
+                } else if (id == arrivals.length) {
+                    arrivals = Arrays.copyOf(arrivals, id * 2);
+                }
+                arrivals[id] = arrival;
+                sorted &= id == 0 || arrival >= lastArrival;
+            }
+            lastArrival = arrival;
+        }
+        return sorted ? table : sortByArrival(table, arrivals);
+    }
+
+    // Orden estable por llegada; los procesos con la misma llegada quedan en el orden del archivo
+    private static ProcessTable sortByArrival(ProcessTable table, long[] arrivals) {
+        return table.select(ProcessTable.stableOrder(arrivals, table.size()));
+    }
+
+    // ========== LECTURA DE CAMPOS ==========
+
+    private String readName() throws IOException {
+        int length = 0;
+        int end = 0;                // Sin los espacios finales
+        int c;
+        while ((c = peek()) != EOF && c != ',' && c != '\n' && c != '\r') {
+            if (length == token.length) {
+                token = Arrays.copyOf(token, length * 2);
+            }
+            token[length++] = (byte) c;
+            if (c != ' ' && c != '\t') {
+                end = length;
+            }
+            position++;
+        }
+        if (end == 0) {
+            throw error("falta el nombre");
+        }
+        return new String(token, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private long readLong(String field) throws IOException {
+        int c = skipSpaces();
+        if (c < '0' || c > '9') {
+            throw error("el " + field + " debe ser un número entero no negativo");
+        }
+        long value = 0;
+        while ((c = peek()) >= '0' && c <= '9') {
+            int digit = c - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw error("el " + field + " es demasiado grande");
+            }
+            value = value * 10 + digit;
+            position++;
+        }
+        return value;
+    }
+
+    private Status readStatus() throws IOException {
+        skipSpaces();
+        int end = readToken();
+        if (matches(end, "B") || matches(end, "BLOQUEADO")) {
+            return Status.BLOQUEADO;
+        }
+        if (matches(end, "N") || matches(end, "NO BLOQUEADO") || matches(end, "NO_BLOQUEADO")) {
+            return Status.NO_BLOQUEADO;
+        }
+        throw error("estado desconocido: " + new String(token, 0, end, StandardCharsets.UTF_8));
+    }
+
+    // Campo hasta la próxima ',' o fin de línea, en token; devuelve su largo sin los espacios finales
+    private int readToken() throws IOException {
+        int length = 0;
+        int end = 0;
+        int c;
+        while ((c = peek()) != EOF && c != ',' && c != '\n' && c != '\r') {
+            if (length == token.length) {
+                token = Arrays.copyOf(token, length * 2);
+            }
+            token[length++] = (byte) c;
+            if (c != ' ' && c != '\t') {
+                end = length;
+            }
+            position++;
+        }
+        return end;
+    }
+
+    // El token (ASCII) es la palabra, sin distinguir mayúsculas
+    private boolean matches(int length, String word) {
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            int c = token[i];
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (c != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expect(char separator) throws IOException {
+        if (skipSpaces() != separator) {
+            throw error("se esperaba '" + separator + "'");
+        }
+        position++;
+    }
+
+    // ========== BUFFER ==========
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    private int skipSpaces() throws IOException {
+        int c;
+        while ((c = peek()) == ' ' || c == '\t') {
+            position++;
+        }
+        return c;
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = peek()) != EOF && c != '\n' && c != '\r') {
+            position++;
+        }
+        skipLineEnd();
+    }
+
+    // Consumir el fin de línea (\n, \r\n o \r)
+    private void skipLineEnd() throws IOException {
+        if (peek() == '\r') {
+            position++;
+        }
+        if (peek() == '\n') {
+            position++;
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException("Línea " + lineNumber + ": " + message);
+    }
+}
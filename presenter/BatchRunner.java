@@ -0,0 +1,314 @@
+package presenter;
+
+import model.Compactation;
+import model.Condensation;
+import model.FileLogSink;
+import model.Filter;
+import model.Log;
+import model.Partition;
+import model.ProcessManager;
+import model.SchedulingPolicy;
+import model.SimulationConfig;
+import model.SimulationResult;
+import model.WorkloadGenerator;
+import model.WorkloadLoader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+// Ejecución sin interfaz para corridas por lotes: carga una carga de trabajo,
+// simula y escribe los informes de cada filtro y los tiempos. No usa clases
+// de AWT ni Swing, así que arranca rápido y corre con java.awt.headless=true.
+//
+// Uso: BatchRunner <archivo>|--generate N [--seed S] [--quantum N] [--policy POLITICA] [--scale] [--out DIR]
+//      [--events ARCHIVO]
+// Archivo: una línea por proceso "nombre,tiempo,estado,tamaño[,llegada]" (ver WorkloadLoader).
+// --generate: N procesos sintéticos con WorkloadGenerator.of(semilla, N) en lugar del archivo.
+// Sin --out los informes van a la salida estándar; con --out, un archivo por filtro
+// (los de las tablas de la interfaz; EJECUCION_PROCESOS no tiene tabla ni eventos).
+// --events: además, todos los eventos en orden a ARCHIVO, una línea por evento (FileLogSink).
+public class BatchRunner {
+    private static final String USAGE =
+            "Uso: BatchRunner <archivo>|--generate N [--seed S] [--quantum N]"
+            + " [--policy MENOR_TIEMPO_PRIMERO|ORDEN_DE_LLEGADA] [--scale] [--out DIR] [--events ARCHIVO]";
+
+    private Path workloadPath;
+    private int generatedCount = -1;    // -1: procesos desde el archivo
+    private long seed = 1;
+    private SimulationConfig config = SimulationConfig.defaults();
+    private boolean scaleMode;
+    private Path outputDirectory;   // null: informes a la salida estándar
+    private Path eventsPath;        // null: sin archivo de eventos
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        BatchRunner runner = new BatchRunner();
+        try {
+            runner.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        try {
+            runner.run();
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--quantum":
+                    config = config.withQuantum(parseQuantum(value(args, ++i, "--quantum")));
+                    break;
+                case "--policy":
+                    config = config.withSchedulingPolicy(
+                            SchedulingPolicy.valueOf(value(args, ++i, "--policy").toUpperCase(Locale.ROOT)));
+                    break;
+                case "--generate":
+                    generatedCount = parseCount(value(args, ++i, "--generate"));
+                    break;
+                case "--seed":
+                    seed = parseSeed(value(args, ++i, "--seed"));
+                    break;
+                case "--scale":
+                    scaleMode = true;
+                    break;
+                case "--out":
+                    outputDirectory = Paths.get(value(args, ++i, "--out"));
+                    break;
+                case "--events":
+                    eventsPath = Paths.get(value(args, ++i, "--events"));
+                    break;
+                default:
+                    if (args[i].startsWith("--") || workloadPath != null) {
+                        throw new IllegalArgumentException("Argumento desconocido: " + args[i]);
+                    }
+                    workloadPath = Paths.get(args[i]);
+            }
+        }
+        if ((workloadPath == null) == (generatedCount < 0)) {
+            throw new IllegalArgumentException(workloadPath == null
+                    ? "Falta el archivo de carga de trabajo"
+                    : "Se indicó un archivo y --generate; usar uno solo");
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + option);
+        }
+        return args[index];
+    }
+
+    private static int parseQuantum(String text) {
+        try {
+            int quantum = Integer.parseInt(text);
+            if (quantum > 0) {
+                return quantum;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException("Quantum inválido: " + text);
+    }
+
+    private static int parseCount(String text) {
+        try {
+            int count = Integer.parseInt(text);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException("Cantidad de procesos inválida: " + text);
+    }
+
+    private static long parseSeed(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Semilla inválida: " + text);
+        }
+    }
+
+    private void run() throws IOException {
+        ProcessManager manager = new ProcessManager(false);
+        manager.setScaleMode(scaleMode);
+
+        long start = System.nanoTime();
+        int processCount = loadWorkload(manager);
+        long loaded = System.nanoTime();
+        SimulationResult result;
+        FileLogSink events = eventsPath != null ? new FileLogSink(eventsPath) : null;
+        try {
+            if (events != null) {
+                manager.addLogSink(events);
+            }
+            result = manager.runSimulation(config);
+        } finally {
+            if (events != null) {
+                manager.removeLogSink(events);
+                events.close();
+            }
+        }
+        long simulated = System.nanoTime();
+        if (outputDirectory != null) {
+            Files.createDirectories(outputDirectory);
+        }
+        writeReports(result);
+        long written = System.nanoTime();
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        out.write("# " + config + "\n");
+        out.write("# procesos=" + processCount + " quantums=" + result.getClock()
+                + " eventos=" + result.getAllLogs().size() + "\n");
+        out.write("# carga ms=" + millis(start, loaded) + " simulación ms=" + millis(loaded, simulated)
+                + " informes ms=" + millis(simulated, written) + "\n");
+        out.flush();
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+
+    // ========== CARGA ==========
+
+    private int loadWorkload(ProcessManager manager) throws IOException {
+        if (generatedCount >= 0) {
+            return WorkloadGenerator.of(seed, generatedCount).addTo(manager);
+        }
+        return WorkloadLoader.load(workloadPath, manager);
+    }
+
+    // ========== INFORMES ==========
+
+    private void writeReports(SimulationResult result) throws IOException {
+        Writer stdout = outputDirectory == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                : null;
+        for (Filter filter : Filter.values()) {
+            if (filter == Filter.EJECUCION_PROCESOS) {
+                continue;
+            }
+            if (stdout != null) {
+                stdout.write("## " + filter.getDescription() + "\n");
+                writeReport(stdout, filter, result);
+                stdout.write("\n");
+            } else {
+                Path file = outputDirectory.resolve(filter.name().toLowerCase(Locale.ROOT) + ".csv");
+                try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    writeReport(writer, filter, result);
+                }
+            }
+        }
+        if (stdout != null) {
+            stdout.flush();
+        }
+    }
+
+    // Mismas columnas que las tablas de la interfaz, separadas por ';' y sin formato;
+    // las tablas de logs agregan el tick de cada evento al final
+    private void writeReport(Writer out, Filter filter, SimulationResult result) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        switch (filter) {
+            case INICIAL:
+                // Como la tabla Inicial: el tiempo restante es el original, sin partición ni ciclos
+                out.write("proceso;tiempo restante;estado;tamaño;partición;ciclos\n");
+                for (int i = 0; i < result.getProcessCount(); i++) {
+                    line.setLength(0);
+                    line.append(result.getProcessName(i)).append(';').append(result.getOriginalTime(i)).append(';')
+                            .append(result.getStatus(i).getValue()).append(';').append(result.getSize(i))
+                            .append(";Asignación dinámica;0");
+                    out.append(line).append('\n');
+                }
+                break;
+            case NO_EJECUTADO:
+                out.write("proceso;tamaño proceso;partición;tamaño partición;problema\n");
+                for (Log log : result.getLogsByFilter(filter)) {
+                    Partition partition = log.getPartition();
+                    line.setLength(0);
+                    line.append(log.getProcessName()).append(';').append(log.getSize()).append(';')
+                            .append(log.getPartitionName()).append(';');
+                    if (partition != null) {
+                        line.append(partition.getSize())
+                                .append(";El proceso excede el tamaño de la partición en: ")
+                                .append(log.getSize() - partition.getSize());
+                    } else {
+                        line.append("N/A;Proceso no cabe en ninguna partición");
+                    }
+                    out.append(line).append('\n');
+                }
+                break;
+            case PARTICIONES:
+            case FINALIZACION_PARTICIONES:
+                boolean finalization = filter == Filter.FINALIZACION_PARTICIONES;
+                out.write(finalization
+                        ? "partición;tamaño;límite inicial;límite final;procesos;tiempo total\n"
+                        : "partición;tamaño;límite inicial;límite final;procesos\n");
+                for (SimulationResult.PartitionSummary p : finalization
+                        ? result.getPartitionFinalizationReport() : result.getPartitions()) {
+                    line.setLength(0);
+                    line.append(p.getName()).append(';').append(p.getSize()).append(';')
+                            .append(p.getInitialLimit()).append(';').append(p.getFinalLimit()).append(';')
+                            .append(p.getProcessNames());
+                    if (finalization) {
+                        line.append(';').append(p.getTotalTime());
+                    }
+                    out.append(line).append('\n');
+                }
+                break;
+            case CONDENSACIONES:
+                out.write("condensación;tamaño;particiones\n");
+                for (Condensation condensation : result.getCondensations()) {
+                    line.setLength(0);
+                    line.append(condensation.getName()).append(';').append(condensation.getSize()).append(';');
+                    List<Partition> partitions = condensation.getPartitions();
+                    for (int i = 0; i < partitions.size(); i++) {
+                        line.append(i > 0 ? ", " : "").append(partitions.get(i).getName());
+                    }
+                    out.append(line).append('\n');
+                }
+                break;
+            case COMPACTACIONES:
+                out.write("compactación;tamaño;proceso;partición creada;límite inicial;límite final;razón\n");
+                for (Compactation compactation : result.getCompactations()) {
+                    Partition created = compactation.getPartitionCreated();
+                    line.setLength(0);
+                    line.append(compactation.getName()).append(';').append(compactation.getSize()).append(';')
+                            .append(compactation.getProcess() != null ? compactation.getProcess().getName() : "N/A")
+                            .append(';').append(created != null ? created.getName() : "N/A")
+                            .append(';').append(created != null ? created.getInitialLimit() : 0)
+                            .append(';').append(created != null ? created.getFinalLimit() : 0)
+                            .append(';').append(compactation.isForExpired()
+                                    ? "Expiración de tiempo" : "Finalización de proceso");
+                    out.append(line).append('\n');
+                }
+                break;
+            default:
+                boolean history = filter == Filter.FINALIZADO;
+                out.write("proceso;tiempo restante;estado;tamaño;partición;ciclos;tick\n");
+                for (Log log : result.getLogsByFilter(filter)) {
+                    line.setLength(0);
+                    line.append(log.getProcessName()).append(';').append(log.getRemainingTime()).append(';')
+                            .append(log.getStatusString()).append(';').append(log.getSize()).append(';')
+                            .append(history ? log.getPartitionHistoryString() : log.getPartitionName()).append(';')
+                            .append(log.getCycleCount()).append(';').append(log.getTick());
+                    out.append(line).append('\n');
+                }
+        }
+    }
+}
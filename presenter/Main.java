@@ -4,6 +4,11 @@ import view.ProcessSimulatorGUI;
 
 public class Main {
     public static void main(String[] args) {
+        // Con argumentos se corre sin interfaz (ver BatchRunner)
+        if (args.length > 0) {
+            BatchRunner.main(args);
+            return;
+        }
         javax.swing.SwingUtilities.invokeLater(new Runnable() {
             public void run() {
                 ProcessSimulatorGUI simulator = new ProcessSimulatorGUI();
@@ -0,0 +1,17 @@
+package model;
+
+// Todas las pruebas del modelo; termina con código 1 si alguna falla.
+//
+//   java -cp <clases> model.AllTests
+public class AllTests {
+
+    public static void main(String[] args) {
+        TestRunner runner = new TestRunner();
+        MemoryMapTest.register(runner);
+        ReadyQueueTest.register(runner);
+        WorkloadLoaderTest.register(runner);
+        WorkloadGeneratorTest.register(runner);
+        TwoPassRegressionTest.register(runner);
+        runner.finish();
+    }
+}
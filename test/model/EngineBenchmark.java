@@ -0,0 +1,40 @@
+package model;
+
+// Mide el motor en modo normal con cargas cada vez más grandes: si el tiempo
+// por quantum se mantiene al duplicar los procesos, la corrida es lineal en la
+// cantidad de quantums. Los logs solo se cuentan, para no medir la memoria.
+//
+//   java -cp <clases> model.EngineBenchmark [semilla] [procesos máximos]
+public class EngineBenchmark {
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        int maxCount = args.length > 1 ? Integer.parseInt(args[1]) : 64_000;
+
+        // Calentamiento: que el JIT compile el motor antes de medir
+        for (int i = 0; i < 3; i++) {
+            run(seed, 2_000);
+        }
+
+        System.out.printf("%10s %12s %10s %14s%n", "procesos", "quantums", "ms", "ns/quantum");
+        for (int count = 1_000; count <= maxCount; count *= 2) {
+            long[] measure = run(seed, count);
+            System.out.printf("%10d %12d %10.1f %14.1f%n", count, measure[0], measure[1] / 1e6,
+                    (double) measure[1] / measure[0]);
+        }
+    }
+
+    // Devuelve {quantums despachados, nanosegundos}
+    private static long[] run(long seed, int count) {
+        ProcessManager manager = new ProcessManager(false);
+        WorkloadGenerator.of(seed, count).stream()
+                .forEach(p -> manager.addProcess(p.getName(), p.getOriginalTime(), p.getStatus(), p.getSize()));
+        manager.addLogSink(new CountingLogSink());
+        manager.setRetainLogs(false);
+
+        long start = System.nanoTime();
+        manager.runSimulation();
+        long elapsed = System.nanoTime() - start;
+        return new long[] { manager.getProcessedQuanta(), elapsed };
+    }
+}
@@ -0,0 +1,148 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// MemoryMap contra una lista simple que mueve los límites a mano: mismas
+// posiciones, mismos límites y mismo indexOf después de cada operación.
+public class MemoryMapTest {
+
+    public static void main(String[] args) {
+        TestRunner runner = new TestRunner();
+        register(runner);
+        runner.finish();
+    }
+
+    static void register(TestRunner runner) {
+        runner.run("MemoryMapTest.agregarYLeerLimites", MemoryMapTest::addAndReadLimits);
+        runner.run("MemoryMapTest.quitarCorreLasPosiciones", MemoryMapTest::removeShiftsPositions);
+        runner.run("MemoryMapTest.desplazarSoloElTramo", MemoryMapTest::shiftOnlyRange);
+        runner.run("MemoryMapTest.reemplazarConservaLaPosicion", MemoryMapTest::setKeepsPosition);
+        runner.run("MemoryMapTest.escribirLimitesEnLasParticiones", MemoryMapTest::writeBackLimits);
+        runner.run("MemoryMapTest.operacionesAleatoriasComoUnaLista", MemoryMapTest::randomOperations);
+    }
+
+    private static Partition partition(String name, long initialLimit, long finalLimit) {
+        return new Partition(name, finalLimit - initialLimit, initialLimit, finalLimit);
+    }
+
+    private static void addAndReadLimits() {
+        Partition a = partition("A", 0, 10);
+        Partition b = partition("B", 10, 30);
+        MemoryMap map = new MemoryMap(List.of(a, b));
+        TestRunner.checkEquals(2, map.size(), "tamaño");
+        TestRunner.check(map.get(0) == a && map.get(1) == b && map.getLast() == b, "orden de las particiones");
+        TestRunner.checkEquals(10L, map.getInitialLimit(1), "límite inicial de B");
+        TestRunner.checkEquals(30L, map.getFinalLimit(1), "límite final de B");
+        TestRunner.checkEquals(1, map.indexOf(b), "indexOf de B");
+        TestRunner.checkEquals(-1, map.indexOf(partition("A", 0, 10)), "indexOf por identidad");
+    }
+
+    private static void removeShiftsPositions() {
+        Partition a = partition("A", 0, 10);
+        Partition b = partition("B", 10, 30);
+        Partition c = partition("C", 30, 35);
+        MemoryMap map = new MemoryMap(List.of(a, b, c));
+        TestRunner.check(map.remove(1) == b, "remove devuelve la partición quitada");
+        TestRunner.checkEquals(2, map.size(), "tamaño");
+        TestRunner.check(map.get(1) == c, "C pasa a la posición 1");
+        TestRunner.checkEquals(1, map.indexOf(c), "indexOf de C");
+        TestRunner.checkEquals(-1, map.indexOf(b), "indexOf de B quitada");
+        TestRunner.check(map.removeLast() == c && map.size() == 1, "removeLast");
+    }
+
+    private static void shiftOnlyRange() {
+        MemoryMap map = new MemoryMap();
+        for (int i = 0; i < 5; i++) {
+            map.add(partition("P" + i, i * 10, i * 10 + 10));
+        }
+        map.shift(1, 3, -4);
+        long[] expectedInitial = { 0, 6, 16, 26, 40 };
+        for (int position = 0; position < 5; position++) {
+            TestRunner.checkEquals(expectedInitial[position], map.getInitialLimit(position),
+                    "límite inicial de la posición " + position);
+            TestRunner.checkEquals(expectedInitial[position] + 10, map.getFinalLimit(position),
+                    "límite final de la posición " + position);
+        }
+        map.shift(3, 2, 100);
+        TestRunner.checkEquals(16L, map.getInitialLimit(2), "un tramo vacío no cambia nada");
+    }
+
+    private static void setKeepsPosition() {
+        Partition a = partition("A", 0, 10);
+        Partition b = partition("B", 10, 30);
+        MemoryMap map = new MemoryMap(List.of(a, b));
+        map.shift(1, 1, 5);
+        Partition merged = partition("AB", 0, 35);
+        map.set(0, merged);
+        TestRunner.check(map.get(0) == merged, "la partición nueva ocupa la posición");
+        TestRunner.checkEquals(-1, map.indexOf(a), "indexOf de la reemplazada");
+        TestRunner.checkEquals(35L, map.getFinalLimit(0), "límites de la partición nueva");
+        TestRunner.checkEquals(15L, map.getInitialLimit(1), "la siguiente conserva su desplazamiento");
+    }
+
+    private static void writeBackLimits() {
+        Partition a = partition("A", 0, 10);
+        Partition b = partition("B", 10, 30);
+        MemoryMap map = new MemoryMap(List.of(a, b));
+        map.shift(0, 1, 7);
+        TestRunner.checkEquals(10L, b.getInitialLimit(), "la partición en memoria no cambia hasta escribir");
+        map.writeBackLimits();
+        TestRunner.checkEquals(7L, a.getInitialLimit(), "límite inicial de A");
+        TestRunner.checkEquals(37L, b.getFinalLimit(), "límite final de B");
+        Partition removed = map.remove(0);
+        map.shift(0, 0, 1);
+        TestRunner.checkEquals(17L, removed.getFinalLimit(), "al salir se escriben sus límites");
+    }
+
+    // Muchas altas, bajas, reemplazos y desplazamientos: pasa por las reconstrucciones
+    private static void randomOperations() {
+        Random random = new Random(3);
+        MemoryMap map = new MemoryMap();
+        List<Partition> partitions = new ArrayList<>();
+        List<long[]> limits = new ArrayList<>();
+        int created = 0;
+        for (int step = 0; step < 20_000; step++) {
+            int operation = partitions.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                long start = random.nextInt(1000);
+                Partition partition = partition("P" + created++, start, start + 1 + random.nextInt(50));
+                map.add(partition);
+                partitions.add(partition);
+                limits.add(new long[] { partition.getInitialLimit(), partition.getFinalLimit() });
+            } else if (operation == 1) {
+                int position = random.nextInt(partitions.size());
+                TestRunner.check(map.remove(position) == partitions.remove(position), "remove en " + position);
+                limits.remove(position);
+            } else if (operation == 2) {
+                int from = random.nextInt(partitions.size());
+                int to = from + random.nextInt(partitions.size() - from);
+                long offset = random.nextInt(21) - 10;
+                map.shift(from, to, offset);
+                for (int i = from; i <= to; i++) {
+                    limits.get(i)[0] += offset;
+                    limits.get(i)[1] += offset;
+                }
+            } else {
+                int position = random.nextInt(partitions.size());
+                long start = random.nextInt(1000);
+                Partition partition = partition("P" + created++, start, start + 1 + random.nextInt(50));
+                map.set(position, partition);
+                partitions.set(position, partition);
+                limits.set(position, new long[] { partition.getInitialLimit(), partition.getFinalLimit() });
+            }
+
+            TestRunner.checkEquals(partitions.size(), map.size(), "tamaño en el paso " + step);
+            if (!partitions.isEmpty()) {
+                int position = random.nextInt(partitions.size());
+                TestRunner.check(map.get(position) == partitions.get(position), "get en el paso " + step);
+                TestRunner.checkEquals(position, map.indexOf(partitions.get(position)), "indexOf en el paso " + step);
+                TestRunner.checkEquals(limits.get(position)[0], map.getInitialLimit(position),
+                        "límite inicial en el paso " + step);
+                TestRunner.checkEquals(limits.get(position)[1], map.getFinalLimit(position),
+                        "límite final en el paso " + step);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+// ReadyQueue contra una ArrayDeque: mismo orden al encolar y desencolar,
+// también cuando la cola da la vuelta y cuando crece.
+public class ReadyQueueTest {
+
+    public static void main(String[] args) {
+        TestRunner runner = new TestRunner();
+        register(runner);
+        runner.finish();
+    }
+
+    static void register(TestRunner runner) {
+        runner.run("ReadyQueueTest.vaciaDevuelveNull", ReadyQueueTest::emptyReturnsNull);
+        runner.run("ReadyQueueTest.ordenDeLlegada", ReadyQueueTest::firstInFirstOut);
+        runner.run("ReadyQueueTest.accesoPorPosicion", ReadyQueueTest::getByIndex);
+        runner.run("ReadyQueueTest.operacionesAleatoriasComoUnaDeque", ReadyQueueTest::randomOperations);
+    }
+
+    private static Process process(int number) {
+        return new Process("p" + number, number, Status.NO_BLOQUEADO, 1);
+    }
+
+    private static void emptyReturnsNull() {
+        ReadyQueue queue = new ReadyQueue();
+        TestRunner.check(queue.isEmpty(), "una cola nueva está vacía");
+        TestRunner.check(queue.peek() == null && queue.poll() == null, "peek y poll de una cola vacía");
+        TestRunner.checkThrows(IndexOutOfBoundsException.class, () -> queue.get(0), "get de una cola vacía");
+    }
+
+    private static void firstInFirstOut() {
+        ReadyQueue queue = new ReadyQueue(2);
+        Process[] processes = new Process[5];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = process(i);
+            queue.add(processes[i]);
+        }
+        TestRunner.checkEquals(5, queue.size(), "tamaño después de crecer");
+        for (Process process : processes) {
+            TestRunner.check(queue.peek() == process, "peek de " + process.getName());
+            TestRunner.check(queue.poll() == process, "poll de " + process.getName());
+        }
+        TestRunner.check(queue.isEmpty(), "vacía al final");
+    }
+
+    private static void getByIndex() {
+        ReadyQueue queue = new ReadyQueue(4);
+        for (int i = 0; i < 3; i++) {
+            queue.add(process(i));
+        }
+        queue.poll();
+        queue.poll();
+        queue.add(process(3));
+        queue.add(process(4));  // Da la vuelta al arreglo
+        TestRunner.checkEquals("p2", queue.get(0).getName(), "posición 0");
+        TestRunner.checkEquals("p4", queue.get(2).getName(), "posición 2");
+        TestRunner.checkThrows(IndexOutOfBoundsException.class, () -> queue.get(3), "get fuera de rango");
+        queue.clear();
+        TestRunner.check(queue.isEmpty() && queue.poll() == null, "vacía después de clear");
+    }
+
+    private static void randomOperations() {
+        Random random = new Random(5);
+        ReadyQueue queue = new ReadyQueue(1);
+        ArrayDeque<Process> expected = new ArrayDeque<>();
+        for (int step = 0; step < 50_000; step++) {
+            if (random.nextInt(5) < 3) {
+                Process process = process(step);
+                queue.add(process);
+                expected.addLast(process);
+            } else {
+                TestRunner.check(queue.poll() == expected.pollFirst(), "poll en el paso " + step);
+            }
+            TestRunner.checkEquals(expected.size(), queue.size(), "tamaño en el paso " + step);
+            if (!expected.isEmpty()) {
+                TestRunner.check(queue.peek() == expected.peekFirst(), "peek en el paso " + step);
+                TestRunner.check(queue.get(queue.size() - 1) == expected.peekLast(), "último en el paso " + step);
+            }
+        }
+    }
+}
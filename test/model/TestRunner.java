@@ -0,0 +1,63 @@
+package model;
+
+import java.util.Objects;
+
+// Pruebas sin bibliotecas externas: cada clase de prueba registra sus casos en
+// un TestRunner, que los corre, informa cada uno y cuenta las fallas. Una
+// falla es cualquier excepción del caso (las comprobaciones lanzan AssertionError).
+//
+//   java -cp <clases> model.AllTests
+final class TestRunner {
+
+    interface TestCase {
+        void run() throws Exception;
+    }
+
+    private int passed;
+    private int failed;
+
+    void run(String name, TestCase test) {
+        try {
+            test.run();
+            passed++;
+            System.out.println("ok    " + name);
+        } catch (Throwable e) {
+            failed++;
+            System.out.println("FALLA " + name + ": " + e);
+        }
+    }
+
+    // Resumen; termina con código 1 si algún caso falló
+    void finish() {
+        System.out.println(passed + " correctas, " + failed + " fallidas");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    // ========== COMPROBACIONES ==========
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static void checkEquals(Object expected, Object actual, String what) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(what + ": se esperaba <" + expected + "> y se obtuvo <" + actual + ">");
+        }
+    }
+
+    static void checkThrows(Class<? extends Throwable> type, TestCase code, String what) {
+        try {
+            code.run();
+        } catch (Throwable e) {
+            if (type.isInstance(e)) {
+                return;
+            }
+            throw new AssertionError(what + ": se esperaba " + type.getSimpleName() + " y se lanzó " + e);
+        }
+        throw new AssertionError(what + ": se esperaba " + type.getSimpleName());
+    }
+}
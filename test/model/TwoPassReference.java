@@ -0,0 +1,264 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+// Copia compacta de la simulación original en dos pasadas (motor lógico y
+// después la traza en orden de entrada), para comparar la salida del motor
+// actual. Solo guarda lo que se compara: los registros de cada filtro y los
+// tamaños de condensaciones y compactaciones.
+final class TwoPassReference {
+
+    static final class Output {
+        final EnumMap<Filter, List<String>> records = new EnumMap<>(Filter.class);
+        final List<Long> condensationSizes = new ArrayList<>();
+        final List<Long> compactationSizes = new ArrayList<>();
+
+        List<String> get(Filter filter) {
+            return records.computeIfAbsent(filter, f -> new ArrayList<>());
+        }
+    }
+
+    private static final class Part {
+        final String name;
+        final long size;
+        long initialLimit;
+        long finalLimit;
+        final List<Proc> assigned = new ArrayList<>();
+
+        Part(String name, long size, long initialLimit, long finalLimit) {
+            this.name = name;
+            this.size = size;
+            this.initialLimit = initialLimit;
+            this.finalLimit = finalLimit;
+        }
+    }
+
+    private static final class Proc {
+        final String name;
+        final long originalTime;
+        long remaining;
+        final Status status;
+        final long size;
+        Part partition;
+        int cycle;
+        int round = 1;
+        List<Part> history = new ArrayList<>();
+
+        Proc(String name, long time, Status status, long size) {
+            this.name = name;
+            this.originalTime = time;
+            this.remaining = time;
+            this.status = status;
+            this.size = size;
+        }
+
+        Proc copy() {
+            Proc copy = new Proc(name, originalTime, status, size);
+            copy.remaining = remaining;
+            copy.partition = partition;
+            copy.history = new ArrayList<>(history);
+            return copy;
+        }
+
+        void subtract(long time) {
+            remaining = Math.max(0, remaining - time);
+        }
+    }
+
+    private final int quantum;
+    private final List<Proc> processes = new ArrayList<>();
+    private final List<Part> partitions = new ArrayList<>();
+    private List<Part> memory;
+    private boolean firstCondensation = true;
+    private final Output output = new Output();
+
+    private TwoPassReference(int quantum) {
+        this.quantum = quantum;
+    }
+
+    // shortestFirst: el motor ordena la cola por tiempo original (la simulación
+    // original lo hacía siempre); la traza siempre va en orden de entrada
+    static Output run(ProcessTable workload, int quantum, boolean shortestFirst) {
+        TwoPassReference reference = new TwoPassReference(quantum);
+        for (int id = 0; id < workload.size(); id++) {
+            reference.processes.add(new Proc(workload.getName(id), workload.getOriginalTime(id),
+                    workload.getStatus(id), workload.getSize(id)));
+        }
+        reference.simulate(shortestFirst);
+        return reference.output;
+    }
+
+    private void simulate(boolean shortestFirst) {
+        for (Proc process : processes) {
+            long start = partitions.isEmpty() ? 0 : partitions.get(partitions.size() - 1).finalLimit;
+            Part partition = new Part(partitionName(), process.size, start, start + process.size);
+            partitions.add(partition);
+            process.partition = partition;
+            process.history.add(partition);
+            partition.assigned.add(process);
+        }
+        memory = new ArrayList<>(partitions);
+        for (Proc process : processes) {
+            log(process, Filter.INICIAL);
+        }
+
+        // Primera pasada: motor lógico
+        List<Proc> queue = new ArrayList<>();
+        for (Proc process : processes) {
+            queue.add(process.copy());
+        }
+        if (shortestFirst) {
+            queue.sort((p1, p2) -> Long.compare(p1.originalTime, p2.originalTime));
+        }
+        int round = 1;
+        while (!queue.isEmpty()) {
+            if (queue.get(0).round > round) {
+                round++;
+                addNewPartitions(queue);
+            }
+            Proc current = queue.remove(0);
+            current.round++;
+            current.subtract(quantum);
+            current.cycle++;
+            if (current.remaining <= 0) {
+                log(current, Filter.FINALIZADO);
+                for (Proc other : queue) {
+                    if (other.remaining <= quantum) {
+                        other.subtract(quantum);
+                    }
+                }
+                reviewForCondensations(queue, current);
+            } else {
+                reviewForCondensations(queue, current);
+                queue.add(current);
+            }
+        }
+
+        // Segunda pasada: traza en orden de entrada
+        queue = new ArrayList<>();
+        for (Proc process : processes) {
+            queue.add(process.copy());
+        }
+        int index = 0;
+        int count = 0;
+        while (!queue.isEmpty()) {
+            Proc current = queue.remove(0);
+            if (index < current.history.size()) {
+                current.partition = current.history.get(index);
+            }
+            log(current, Filter.LISTO);
+            log(current, Filter.DESPACHAR);
+            log(current, Filter.EN_EJECUCION);
+            current.subtract(quantum);
+            current.cycle++;
+            if (current.remaining > 0) {
+                if (current.status != Status.BLOQUEADO) {
+                    log(current, Filter.TIEMPO_EXPIRADO);
+                } else {
+                    log(current, Filter.TRANSICION_BLOQUEO);
+                    log(current, Filter.BLOQUEADO);
+                    log(current, Filter.DESPERTAR);
+                }
+                queue.add(current);
+            }
+            if (++count == processes.size()) {
+                index++;
+                count = 0;
+            }
+        }
+    }
+
+    private void addNewPartitions(List<Proc> queue) {
+        List<Part> created = new ArrayList<>();
+        long total = 0;
+        for (Proc process : queue) {
+            Part partition = new Part(partitionName(), process.size, 0, 0);
+            partitions.add(partition);
+            process.partition = partition;
+            partition.assigned.add(process);
+            created.add(partition);
+            memory.add(memory.size() - 1, partition);
+            total += partition.size;
+        }
+        Part free = memory.get(memory.size() - 1);
+        long remaining = total;
+        for (Part partition : created) {
+            partition.initialLimit = free.initialLimit + total - remaining;
+            remaining -= partition.size;
+            partition.finalLimit = free.initialLimit + total - remaining;
+        }
+        Part last = new Part(partitionName(), free.size - total, free.initialLimit + total, free.finalLimit);
+        memory.set(memory.size() - 1, last);
+        partitions.add(last);
+    }
+
+    private void reviewForCondensations(List<Proc> queue, Proc process) {
+        int position = -1;
+        for (int i = 0; i < memory.size(); i++) {
+            if (memory.get(i).name.equals(process.partition.name)) {
+                position = i;
+                break;
+            }
+        }
+        if (position == -1) {
+            return;
+        }
+        boolean penultimate = position == memory.size() - 2;
+        Part removed = memory.remove(position);
+        for (int i = position; i < memory.size(); i++) {
+            if (i == memory.size() - 1 && !firstCondensation) {
+                Part last = memory.get(i);
+                long size = removed.size + last.size;
+                Part merged = new Part(partitionName(), size, last.finalLimit - size, last.finalLimit);
+                output.condensationSizes.add(size);
+                memory.set(i, merged);
+                if (!penultimate) {
+                    output.compactationSizes.add(size);
+                }
+                partitions.add(merged);
+            } else {
+                move(queue, i);
+            }
+        }
+        if (firstCondensation) {
+            firstCondensation = false;
+            Part last = memory.get(memory.size() - 1);
+            Part free = new Part(partitionName(), removed.size, last.finalLimit, last.finalLimit + removed.size);
+            partitions.add(free);
+            memory.add(free);
+            output.compactationSizes.add(free.size);
+        }
+    }
+
+    private void move(List<Proc> queue, int i) {
+        Part partition = memory.get(i);
+        long start = i == 0 ? 0 : memory.get(i - 1).finalLimit;
+        Part moved = new Part(partitionName(), partition.size, start, start + partition.size);
+        if (!partition.assigned.isEmpty()) {
+            Proc owner = partition.assigned.get(0);
+            moved.assigned.add(owner);
+            for (Proc queued : queue) {
+                if (queued.name.equalsIgnoreCase(owner.name)) {
+                    queued.partition = moved;
+                    if (!queued.history.contains(moved)) {
+                        queued.history.add(moved);
+                    }
+                    break;
+                }
+            }
+        }
+        partitions.add(moved);
+        memory.set(i, moved);
+    }
+
+    private String partitionName() {
+        return "Part" + (partitions.size() + 1);
+    }
+
+    private void log(Proc process, Filter filter) {
+        output.get(filter).add(process.name + ";" + process.remaining + ";" + process.status + ";" + process.size
+                + ";" + process.cycle + ";" + (process.partition != null ? process.partition.name : "-"));
+    }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import java.util.List;
+
+// Cargas sintéticas: la misma semilla da los mismos procesos (por stream,
+// toTable o addTo) y los valores quedan dentro de los rangos pedidos.
+public class WorkloadGeneratorTest {
+
+    public static void main(String[] args) {
+        TestRunner runner = new TestRunner();
+        register(runner);
+        runner.finish();
+    }
+
+    static void register(TestRunner runner) {
+        runner.run("WorkloadGeneratorTest.mismaSemillaMismosProcesos", WorkloadGeneratorTest::sameSeedSameProcesses);
+        runner.run("WorkloadGeneratorTest.otraSemillaOtrosProcesos", WorkloadGeneratorTest::otherSeedOtherProcesses);
+        runner.run("WorkloadGeneratorTest.streamYTablaIguales", WorkloadGeneratorTest::streamMatchesTable);
+        runner.run("WorkloadGeneratorTest.valoresEnRango", WorkloadGeneratorTest::valuesInRange);
+        runner.run("WorkloadGeneratorTest.nombresRepetidos", WorkloadGeneratorTest::duplicateNames);
+    }
+
+    private static String describe(List<Process> processes) {
+        StringBuilder text = new StringBuilder();
+        for (Process process : processes) {
+            text.append(process.getName()).append(',').append(process.getOriginalTime()).append(',')
+                    .append(process.getStatus()).append(',').append(process.getSize()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String describe(ProcessTable table) {
+        StringBuilder text = new StringBuilder();
+        for (int id = 0; id < table.size(); id++) {
+            text.append(table.getName(id)).append(',').append(table.getOriginalTime(id)).append(',')
+                    .append(table.getStatus(id)).append(',').append(table.getSize(id)).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static void sameSeedSameProcesses() {
+        WorkloadGenerator generator = WorkloadGenerator.of(42, 1000)
+                .withTime(1, 200, WorkloadGenerator.Distribution.EXPONENCIAL);
+        String first = describe(generator.stream().toList());
+        TestRunner.checkEquals(first, describe(generator.stream().toList()), "dos recorridos del mismo generador");
+        TestRunner.checkEquals(first, describe(WorkloadGenerator.of(42, 1000)
+                .withTime(1, 200, WorkloadGenerator.Distribution.EXPONENCIAL).stream().toList()),
+                "otro generador con la misma semilla");
+        TestRunner.check(describe(generator.withCount(2000).stream().toList()).startsWith(first),
+                "más procesos con la misma semilla empiezan igual");
+    }
+
+    private static void otherSeedOtherProcesses() {
+        TestRunner.check(!describe(WorkloadGenerator.of(1, 100).stream().toList())
+                .equals(describe(WorkloadGenerator.of(2, 100).stream().toList())), "semillas 1 y 2");
+    }
+
+    private static void streamMatchesTable() {
+        WorkloadGenerator generator = WorkloadGenerator.of(7, 500).withBlockedProbability(0.2);
+        String fromStream = describe(generator.stream().toList());
+        TestRunner.checkEquals(fromStream, describe(generator.toTable()), "toTable");
+        ProcessManager manager = new ProcessManager(false);
+        TestRunner.checkEquals(500, generator.addTo(manager), "addTo devuelve la cantidad");
+        TestRunner.checkEquals(fromStream, describe(manager.getInitialProcesses()), "addTo");
+    }
+
+    private static void valuesInRange() {
+        WorkloadGenerator generator = WorkloadGenerator.of(9, 5000)
+                .withTime(3, 8, WorkloadGenerator.Distribution.UNIFORME)
+                .withSize(10, 1000, WorkloadGenerator.Distribution.EXPONENCIAL)
+                .withBlockedProbability(0);
+        int index = 0;
+        for (Process process : generator.stream().toList()) {
+            index++;
+            TestRunner.checkEquals("P" + index, process.getName(), "nombre");
+            TestRunner.check(process.getOriginalTime() >= 3 && process.getOriginalTime() <= 8,
+                    "tiempo fuera de rango: " + process.getOriginalTime());
+            TestRunner.check(process.getSize() >= 10 && process.getSize() <= 1000,
+                    "tamaño fuera de rango: " + process.getSize());
+            TestRunner.checkEquals(Status.NO_BLOQUEADO, process.getStatus(), "sin bloqueados");
+        }
+        TestRunner.checkEquals(5000, index, "cantidad");
+        TestRunner.checkThrows(IllegalArgumentException.class,
+                () -> WorkloadGenerator.of(1, 10).withTime(0, 5, WorkloadGenerator.Distribution.UNIFORME),
+                "tiempo mínimo 0");
+        TestRunner.checkThrows(IllegalArgumentException.class,
+                () -> WorkloadGenerator.of(1, 10).withBlockedProbability(1.5), "probabilidad mayor que 1");
+    }
+
+    private static void duplicateNames() {
+        ProcessManager manager = new ProcessManager(false);
+        manager.addProcess("p3", 1, Status.NO_BLOQUEADO, 1);
+        TestRunner.checkThrows(IllegalArgumentException.class, () -> WorkloadGenerator.of(1, 5).addTo(manager),
+                "P3 ya existe");
+        TestRunner.checkEquals(1, manager.getInitialProcesses().size(), "no se agregó nada");
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Lectura de archivos de carga: encabezado, comentarios, estados, llegadas
+// (orden estable) y errores que no dejan una carga a medias.
+public class WorkloadLoaderTest {
+
+    public static void main(String[] args) {
+        TestRunner runner = new TestRunner();
+        register(runner);
+        runner.finish();
+    }
+
+    static void register(TestRunner runner) {
+        runner.run("WorkloadLoaderTest.encabezadoYComentarios", WorkloadLoaderTest::headerAndComments);
+        runner.run("WorkloadLoaderTest.tiempoNoNumericoEnLaPrimeraLinea", WorkloadLoaderTest::badFirstLine);
+        runner.run("WorkloadLoaderTest.formasDelEstado", WorkloadLoaderTest::statusSpellings);
+        runner.run("WorkloadLoaderTest.ordenEstablePorLlegada", WorkloadLoaderTest::stableArrivalOrder);
+        runner.run("WorkloadLoaderTest.llegadaSoloEnAlgunasLineas", WorkloadLoaderTest::partialArrivals);
+        runner.run("WorkloadLoaderTest.errorNoCargaNada", WorkloadLoaderTest::errorLeavesManagerUnchanged);
+        runner.run("WorkloadLoaderTest.nombreYaCargado", WorkloadLoaderTest::existingName);
+    }
+
+    private static ProcessManager load(String text) throws IOException {
+        ProcessManager manager = new ProcessManager(false);
+        load(text, manager);
+        return manager;
+    }
+
+    private static int load(String text, ProcessManager manager) throws IOException {
+        return WorkloadLoader.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), manager);
+    }
+
+    private static List<String> names(ProcessManager manager) {
+        List<String> names = new ArrayList<>();
+        for (Process process : manager.getInitialProcesses()) {
+            names.add(process.getName());
+        }
+        return names;
+    }
+
+    private static void headerAndComments() throws IOException {
+        ProcessManager manager = new ProcessManager(false);
+        int count = load("nombre,tiempo,estado,tamaño\n"
+                + "# comentario\n"
+                + "\n"
+                + "a,5,N,10\r\n"
+                + "  b , 7 , B , 20\n", manager);
+        TestRunner.checkEquals(2, count, "procesos cargados");
+        TestRunner.checkEquals(List.of("a", "b"), names(manager), "nombres");
+        Process b = manager.getInitialProcesses().get(1);
+        TestRunner.checkEquals(7L, b.getOriginalTime(), "tiempo de b");
+        TestRunner.checkEquals(Status.BLOQUEADO, b.getStatus(), "estado de b");
+        TestRunner.checkEquals(20L, b.getSize(), "tamaño de b");
+    }
+
+    // Solo "tiempo" marca el encabezado: otra palabra es un error de la primera línea
+    private static void badFirstLine() {
+        TestRunner.checkThrows(IOException.class, () -> load("a,cinco,N,10\nb,5,N,10\n"), "tiempo no numérico");
+        TestRunner.checkThrows(IOException.class, () -> load("a,5,N,10\nb,tiempo,N,10\n"),
+                "encabezado fuera de la primera línea");
+    }
+
+    private static void statusSpellings() throws IOException {
+        ProcessManager manager = load("a,1,b,1\nb,1,n,1\nc,1,Bloqueado,1\nd,1,No bloqueado,1\n"
+                + "e,1,BLOQUEADO,1\nf,1,NO_BLOQUEADO,1\n");
+        Status[] expected = { Status.BLOQUEADO, Status.NO_BLOQUEADO, Status.BLOQUEADO, Status.NO_BLOQUEADO,
+                Status.BLOQUEADO, Status.NO_BLOQUEADO };
+        List<Process> processes = manager.getInitialProcesses();
+        for (int i = 0; i < expected.length; i++) {
+            TestRunner.checkEquals(expected[i], processes.get(i).getStatus(), "estado de " + processes.get(i).getName());
+        }
+    }
+
+    private static void stableArrivalOrder() throws IOException {
+        ProcessManager manager = load("a,5,N,10,3\nb,5,N,10,1\nc,5,N,10,3\nd,5,N,10,1\ne,5,N,10,0\n");
+        TestRunner.checkEquals(List.of("e", "b", "d", "a", "c"), names(manager), "orden por llegada");
+        ProcessManager sorted = load("a,5,N,10,0\nb,5,N,10,0\nc,5,N,10,2\n");
+        TestRunner.checkEquals(List.of("a", "b", "c"), names(sorted), "ya ordenados");
+    }
+
+    // Las líneas sin llegada antes de la primera que la trae llegan en 0
+    private static void partialArrivals() throws IOException {
+        ProcessManager manager = load("a,5,N,10\nb,5,N,10,4\nc,5,N,10,2\nd,5,N,10,0\n");
+        TestRunner.checkEquals(List.of("a", "d", "c", "b"), names(manager), "orden por llegada");
+    }
+
+    private static void errorLeavesManagerUnchanged() throws IOException {
+        ProcessManager manager = load("x,1,N,1\n");
+        TestRunner.checkThrows(IOException.class, () -> load("a,5,N,10\nA,6,N,10\n", manager), "nombre repetido");
+        TestRunner.checkThrows(IOException.class, () -> load("a,5,N,10\nb,5,N,10,1,9\n", manager),
+                "datos de más al final");
+        TestRunner.checkThrows(IOException.class, () -> load("a,5,N,10\nb,-5,N,10\n", manager), "tiempo negativo");
+        TestRunner.checkEquals(List.of("x"), names(manager), "procesos después de los errores");
+    }
+
+    private static void existingName() throws IOException {
+        ProcessManager manager = load("a,1,N,1\n");
+        TestRunner.checkThrows(IOException.class, () -> load("b,1,N,1\n A ,2,N,2\n", manager), "nombre ya cargado");
+        TestRunner.checkEquals(1, load("b,1,N,1\n", manager), "otro nombre sí se carga");
+        TestRunner.checkEquals(List.of("a", "b"), names(manager), "nombres");
+    }
+}
@@ -0,0 +1,76 @@
+package view;
+
+import model.Log;
+import model.LogSink;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Sink que muestra en la interfaz los últimos eventos de la corrida en curso:
+// guarda los tailSize más recientes y, a lo sumo una vez por intervalo, los
+// convierte con el formateador y los entrega en el hilo de Swing. La conversión
+// se hace en el hilo de la simulación, el único que puede leer el contexto de
+// los logs mientras la corrida cambia.
+public class GuiLogFeed<T> implements LogSink {
+    private static final int CHECK_EVERY = 1024; // ← Eventos entre lecturas del reloj
+
+    private Function<Log, T> formatter;
+    private Consumer<List<T>> consumer;
+    private Log[] tail;             // ← Anillo con los últimos eventos
+    private int next;
+    private long seen;
+    private long intervalNanos;
+    private long lastPublish;
+
+    public GuiLogFeed(Function<Log, T> formatter, Consumer<List<T>> consumer, int tailSize, long intervalMillis) {
+        this.formatter = formatter;
+        this.consumer = consumer;
+        this.tail = new Log[Math.max(tailSize, 1)];
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    @Override
+    public void runStarted() {
+        Arrays.fill(tail, null);
+        next = 0;
+        seen = 0;
+        lastPublish = System.nanoTime();
+    }
+
+    @Override
+    public void accept(Log log) {
+        tail[next] = log;
+        next = next + 1 == tail.length ? 0 : next + 1;
+        seen++;
+        if ((seen & (CHECK_EVERY - 1)) == 0 && System.nanoTime() - lastPublish >= intervalNanos) {
+            publish();
+        }
+    }
+
+    @Override
+    public void runFinished() {
+        publish();
+    }
+
+    // Del más viejo al más nuevo
+    private void publish() {
+        lastPublish = System.nanoTime();
+        int size = (int) Math.min(seen, tail.length);
+        List<T> lines = new ArrayList<>(size);
+        int position = next - size < 0 ? next - size + tail.length : next - size;
+        for (int i = 0; i < size; i++) {
+            lines.add(formatter.apply(tail[position]));
+            position = position + 1 == tail.length ? 0 : position + 1;
+        }
+        if (SwingUtilities.isEventDispatchThread()) {
+            consumer.accept(lines);
+        } else {
+            SwingUtilities.invokeLater(() -> consumer.accept(lines));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package view;
+
+import javax.swing.table.DefaultTableCellRenderer;
+import java.text.NumberFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Renderizador compartido por las tablas de resultados: las celdas numéricas
+// llegan como Long y se formatean al pintarse. Los textos de los últimos valores
+// quedan en caché, porque tamaños, límites y tiempos se repiten mucho entre filas.
+// Solo se usa en el hilo de Swing.
+public class NumberCellRenderer extends DefaultTableCellRenderer {
+    private static final long serialVersionUID = 1L;
+    private static final int CACHE_SIZE = 4096;
+
+    private NumberFormat formatter;
+    private LinkedHashMap<Long, String> formatted;
+
+    public NumberCellRenderer(NumberFormat formatter) {
+        this.formatter = formatter;
+        // Orden de acceso: al llenarse sale el valor usado hace más tiempo
+        this.formatted = new LinkedHashMap<>(CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+    }
+
+    @Override
+    protected void setValue(Object value) {
+        if (value instanceof Long number) {
+            setText(format(number));
+        } else {
+            super.setValue(value);
+        }
+    }
+
+    public String format(long value) {
+        return format(Long.valueOf(value));
+    }
+
+    private String format(Long value) {
+        String text = formatted.get(value);
+        if (text == null) {
+            text = formatter.format(value.longValue());
+            formatted.put(value, text);
+        }
+        return text;
+    }
+}
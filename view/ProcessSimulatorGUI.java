@@ -11,12 +11,14 @@ import java.awt.event.KeyListener;
 import java.io.File;
 import java.io.IOException;
 import java.text.NumberFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     private ProcessManager processManager;
+    private SimulationResult simulationResult; // ← Última corrida (null antes de simular)
 
     // Campos de Procesos
     private JTextField txtProcessName;
@@ -38,7 +40,19 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     private JPanel resultsPanel;
     private CardLayout cardLayout;
 
-    private DefaultTableModel[] resultTableModels;
+    private ResultTableModel<?>[] resultTableModels; // ← Modelos virtuales por índice de tabla
+    private ResultTableModel<Void> initialResultModel;
+    private ResultTableModel<SimulationResult.PartitionSummary> partitionResultModel;
+    private ResultTableModel<SimulationResult.PartitionSummary> finalizationResultModel;
+    private ResultTableModel<Condensation> condensationResultModel;
+    private ResultTableModel<Compactation> compactationResultModel;
+    private boolean[] resultTableLoaded; // ← Tablas ya armadas con el resultado actual
+    private NumberCellRenderer numberRenderer; // ← Compartido por las tablas de resultados
+
+    // Tipos de columna de las tablas de resultados
+    private static final Class<?> TEXT = String.class;
+    private static final Class<?> NUMBER = Long.class;
+    private static final Class<?> OBJECT = Object.class;
     
     // ← MODIFICADO: Agregar "Compactaciones" al final
     private String[] tableNames = {
@@ -64,6 +78,16 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     // ComboBox para filtro de particiones en Listo
     private JComboBox<String> cmbPartitionFilter;
 
+    // Simulación en segundo plano
+    private JTabbedPane leftTabbedPane;
+    private JButton btnSimulate;
+    private JButton btnReset;
+    private JButton btnCancelSimulation;
+    private JProgressBar simulationProgress;
+    private Timer progressTimer;
+    private JTextArea liveLogArea;  // ← Últimos eventos de la corrida en curso (GuiLogFeed)
+    private static final int LIVE_LOG_LINES = 200;
+
     public ProcessSimulatorGUI() {
         processManager = new ProcessManager();
         numberFormatter = NumberFormat.getNumberInstance(new Locale("es", "ES"));
@@ -120,75 +144,132 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         cardLayout = new CardLayout();
         resultsPanel = new JPanel(cardLayout);
 
-        resultTableModels = new DefaultTableModel[tableNames.length];
+        // Las tablas leen las filas del resultado al pintarse; los números quedan
+        // como Long y el renderizador compartido formatea solo las celdas visibles
+        numberRenderer = new NumberCellRenderer(numberFormatter);
+        resultTableModels = new ResultTableModel<?>[tableNames.length];
+        resultTableLoaded = new boolean[tableNames.length];
         for (int i = 0; i < tableNames.length; i++) {
+            // Tabla especial para Inicial (índice 0)
+            if (i == 0) {
+                // Lee las columnas de los procesos de entrada por índice, sin armar un Process por celda
+                initialResultModel = ResultTableModel.byIndex(
+                        new String[] { "Proceso", "Tiempo Restante", "Estado", "Tamaño", "Partición", "Ciclos" },
+                        new Class<?>[] { TEXT, NUMBER, TEXT, NUMBER, TEXT, OBJECT },
+                        (row, column) -> switch (column) {
+                            case 0 -> simulationResult.getProcessName(row);
+                            case 1 -> simulationResult.getOriginalTime(row);
+                            case 2 -> simulationResult.getStatus(row).getValue();
+                            case 3 -> simulationResult.getSize(row);
+                            case 4 -> "Asignación dinámica";
+                            default -> 0;
+                        });
+                resultTableModels[i] = initialResultModel;
+            }
             // Tabla especial para Particiones (índice 9)
-            if (i == 9) {
-                resultTableModels[i] = new DefaultTableModel(
+            else if (i == 9) {
+                partitionResultModel = new ResultTableModel<>(
                         new String[] { "Partición", "Tamaño", "Límite Inicial", "Límite Final", "Procesos Asignados" },  // ← MODIFICADO
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, NUMBER, NUMBER, TEXT },
+                        (p, column) -> switch (column) {
+                            case 0 -> p.getName();
+                            case 1 -> p.getSize();
+                            case 2 -> p.getInitialLimit();
+                            case 3 -> p.getFinalLimit();
+                            default -> p.getProcessNames();
+                        });
+                resultTableModels[i] = partitionResultModel;
             }
             // Tabla especial para Finalización de Particiones (índice 10)
             else if (i == 10) {
-                resultTableModels[i] = new DefaultTableModel(
+                finalizationResultModel = new ResultTableModel<>(
                         new String[] { "Partición", "Tamaño", "Límite Inicial", "Límite Final", "Procesos Asignados", "Tiempo Total" },  // ← MODIFICADO
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, NUMBER, NUMBER, TEXT, NUMBER },
+                        (p, column) -> switch (column) {
+                            case 0 -> p.getName();
+                            case 1 -> p.getSize();
+                            case 2 -> p.getInitialLimit();
+                            case 3 -> p.getFinalLimit();
+                            case 4 -> p.getProcessNames();
+                            default -> p.getTotalTime();
+                        });
+                resultTableModels[i] = finalizationResultModel;
             }
             
             else if (i == 11) {
-                resultTableModels[i] = new DefaultTableModel(
+                resultTableModels[i] = new ResultTableModel<Log>(
                         new String[] { "Proceso", "Tamaño Proceso", "Partición", "Tamaño Partición", "Problema " },
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, TEXT, OBJECT, TEXT },
+                        (log, column) -> switch (column) {
+                            case 0 -> log.getProcessName();
+                            case 1 -> log.getSize();
+                            case 2 -> log.getPartitionName();
+                            case 3 -> log.getPartition() != null ? log.getPartition().getSize() : "N/A";
+                            default -> log.getPartition() != null
+                                    ? "El proceso excede el tamaño de la partición en: "
+                                            + numberRenderer.format(log.getSize() - log.getPartition().getSize())
+                                    : "Proceso no cabe en ninguna partición";
+                        });
             }
             else if (i == 12) {
-                resultTableModels[i] = new DefaultTableModel(
+                condensationResultModel = new ResultTableModel<>(
                         new String[] { "Condensación", "Tamaño Total", "Particiones Fusionadas" },
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, TEXT },
+                        (cond, column) -> switch (column) {
+                            case 0 -> cond.getName();
+                            case 1 -> cond.getSize();
+                            default -> partitionNames(cond.getPartitions());
+                        });
+                resultTableModels[i] = condensationResultModel;
             }
             // ← NUEVO: Tabla para Compactaciones (índice 13)
             else if (i == 13) {
-                resultTableModels[i] = new DefaultTableModel(
+                compactationResultModel = new ResultTableModel<>(
                         new String[] { "Compactación", "Tamaño", "Proceso", "Partición Creada", "Límite Inicial", "Límite Final", "Razón" },
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, TEXT, TEXT, NUMBER, NUMBER, TEXT },
+                        (comp, column) -> switch (column) {
+                            case 0 -> comp.getName();
+                            case 1 -> comp.getSize();
+                            case 2 -> comp.getProcess() != null ? comp.getProcess().getName() : "N/A";
+                            case 3 -> comp.getPartitionCreated() != null ? comp.getPartitionCreated().getName() : "N/A";
+                            case 4 -> comp.getPartitionCreated() != null ? comp.getPartitionCreated().getInitialLimit() : 0L;
+                            case 5 -> comp.getPartitionCreated() != null ? comp.getPartitionCreated().getFinalLimit() : 0L;
+                            default -> comp.isForExpired() ? "Expiración de tiempo" : "Finalización de proceso";
+                        });
+                resultTableModels[i] = compactationResultModel;
             }
             else {
-                resultTableModels[i] = new DefaultTableModel(
+                // Salidas muestra el historial completo; el resto, la partición actual
+                boolean showHistory = filters[i] == Filter.FINALIZADO;
+                resultTableModels[i] = new ResultTableModel<Log>(
                         new String[] { "Proceso", "Tiempo Restante", "Estado", "Tamaño", "Partición", "Ciclos" },
-                        0) {
-                    @Override
-                    public boolean isCellEditable(int row, int column) {
-                        return false;
-                    }
-                };
+                        new Class<?>[] { TEXT, NUMBER, TEXT, NUMBER, TEXT, OBJECT },
+                        (log, column) -> switch (column) {
+                            case 0 -> log.getProcessName();
+                            case 1 -> log.getRemainingTime();
+                            case 2 -> log.getStatusString();
+                            case 3 -> log.getSize();
+                            case 4 -> showHistory ? log.getPartitionHistoryString() : log.getPartitionName();
+                            default -> log.getCycleCount();
+                        });
             }
 
             JTable table = new JTable(resultTableModels[i]);
             table.setFont(new Font("Arial", Font.PLAIN, 14));
+            table.setDefaultRenderer(Long.class, numberRenderer);
+            // Las columnas OBJECT mezclan números y textos ("N/A"): solo ellas, no todo Object
+            for (int column = 0; column < resultTableModels[i].getColumnCount(); column++) {
+                if (resultTableModels[i].getColumnClass(column) == OBJECT) {
+                    table.getColumnModel().getColumn(column).setCellRenderer(numberRenderer);
+                }
+            }
+            if (i == 11) {
+                table.getColumnModel().getColumn(0).setPreferredWidth(100);
+                table.getColumnModel().getColumn(1).setPreferredWidth(120);
+                table.getColumnModel().getColumn(2).setPreferredWidth(100);
+                table.getColumnModel().getColumn(3).setPreferredWidth(150);
+                table.getColumnModel().getColumn(4).setPreferredWidth(200);
+            }
             JScrollPane scrollPane = new JScrollPane(table);
             resultsPanel.add(scrollPane, tableNames[i]);
         }
@@ -322,7 +403,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         titlePanel.add(titleLabel);
 
         // Panel izquierdo con pestañas
-        JTabbedPane leftTabbedPane = new JTabbedPane();
+        leftTabbedPane = new JTabbedPane();
         leftTabbedPane.setPreferredSize(new Dimension(500, 0));
 
         Font tabFont = new Font("Arial", Font.BOLD, 16); 
@@ -341,6 +422,14 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         rightPanel.add(resultsPanel, BorderLayout.CENTER);
 
+        // Eventos recientes: se actualiza mientras corre la simulación
+        liveLogArea = new JTextArea(6, 0);
+        liveLogArea.setEditable(false);
+        liveLogArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        JScrollPane liveLogScroll = new JScrollPane(liveLogArea);
+        liveLogScroll.setBorder(BorderFactory.createTitledBorder("Eventos recientes"));
+        rightPanel.add(liveLogScroll, BorderLayout.SOUTH);
+
         // Panel de acciones globales
         JPanel globalActionsPanel = createGlobalActionsPanel();
 
@@ -548,8 +637,9 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
         panel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
-        JButton btnSimulate = new JButton("Ejecutar Simulación");
-        JButton btnReset = new JButton("Limpiar Todo");
+        btnSimulate = new JButton("Ejecutar Simulación");
+        btnReset = new JButton("Limpiar Todo");
+        btnCancelSimulation = new JButton("Cancelar");
         JButton btnManual = new JButton("Manual de usuario");
         JButton btnExit = new JButton("Salir");
 
@@ -558,6 +648,16 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         btnReset.setPreferredSize(buttonSize);
         btnManual.setPreferredSize(buttonSize);
         btnExit.setPreferredSize(buttonSize);
+        btnCancelSimulation.setPreferredSize(buttonSize);
+        btnCancelSimulation.setEnabled(false);
+
+        // Quantums procesados sobre el total estimado (en milésimas)
+        simulationProgress = new JProgressBar(0, 1000);
+        simulationProgress.setPreferredSize(new Dimension(260, 40));
+        simulationProgress.setStringPainted(true);
+        simulationProgress.setString("");
+        simulationProgress.setVisible(false);
+        progressTimer = new Timer(100, e -> updateSimulationProgress());
 
         btnSimulate.setBackground(new Color(46, 125, 50));
         btnSimulate.setForeground(Color.WHITE);
@@ -573,10 +673,13 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         btnSimulate.addActionListener(e -> runSimulation());
         btnReset.addActionListener(e -> clearAll());
+        btnCancelSimulation.addActionListener(e -> cancelSimulation());
         btnManual.addActionListener(e -> openUserManual());
         btnExit.addActionListener(e -> System.exit(0));
 
         panel.add(btnSimulate);
+        panel.add(simulationProgress);
+        panel.add(btnCancelSimulation);
         panel.add(btnReset);
         panel.add(btnManual);
         panel.add(btnExit);
@@ -596,8 +699,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             btn.setPreferredSize(new Dimension(120, 30));
             final int index = i;
             btn.addActionListener(e -> {
-                cardLayout.show(resultsPanel, tableNames[index]);
-                updateResultTable(index);
+                showResultTable(index);
             });
             buttonPanel.add(btn);
         }
@@ -1087,221 +1189,167 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             showError("No hay procesos para simular");
             return;
         } 
-        processManager.runSimulation();
 
-        updatePartitionFilterComboBox();
-        for (int i = 0; i < tableNames.length; i++) {
-            updateResultTable(i);
-        }
+        // La corrida va en un hilo aparte; el resultado anterior se puede seguir
+        // consultando y las tablas se llenan al terminar. El pedido de cancelación
+        // se limpia aquí, en el EDT, para que un Cancelar temprano no se pierda.
+        processManager.resetCancel();
+        setSimulationRunning(true);
+        liveLogArea.setText("");
+        GuiLogFeed<String> liveFeed = new GuiLogFeed<>(ProcessSimulatorGUI::formatLiveLog,
+                this::showLiveLogs, LIVE_LOG_LINES, 200);
+        processManager.addLogSink(liveFeed);
+        new SwingWorker<SimulationResult, Void>() {
+            @Override
+            protected SimulationResult doInBackground() {
+                return processManager.runSimulation();
+            }
 
-        cardLayout.show(resultsPanel, tableNames[0]);
-        showInfo("Simulación ejecutada exitosamente");
-    }
+            @Override
+            protected void done() {
+                processManager.removeLogSink(liveFeed);
+                setSimulationRunning(false);
+                try {
+                    simulationResult = get();
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof CancellationException) {
+                        showInfo("Simulación cancelada");
+                    } else {
+                        showError("Error en la simulación: " + ex.getCause().getMessage());
+                    }
+                    return;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
 
-    // ← MODIFICADO: Actualizar tabla de resultados con límites y compactaciones
-    private void updateResultTable(int tableIndex) {
-        // Tabla especial para Particiones (índice 9)
-        if (tableIndex == 9) {
-            resultTableModels[9].setRowCount(0);
-            for (Partition p : processManager.getPartitions()) {
-                String formattedSize = numberFormatter.format(p.getSize());
-                String formattedInitialLimit = numberFormatter.format(p.getInitialLimit());
-                String formattedFinalLimit = numberFormatter.format(p.getFinalLimit());
-                String processNames = p.getProcessHistoryString();
-                
-                resultTableModels[9].addRow(new Object[] {
-                        p.getName(),
-                        formattedSize,
-                        formattedInitialLimit,  // ← NUEVO
-                        formattedFinalLimit,    // ← NUEVO
-                        processNames
-                });
+                updatePartitionFilterComboBox();
+                // Solo se arma la tabla que se muestra; las demás, al abrirlas
+                invalidateResultTables();
+                showResultTable(0);
+                showInfo("Simulación ejecutada exitosamente");
             }
-            return;
-        }
+        }.execute();
+    }
 
-        // Tabla especial para Finalización de Particiones (índice 10)
-        if (tableIndex == 10) {
-            resultTableModels[10].setRowCount(0);
-            List<ProcessManager.PartitionFinalizationInfo> report = processManager.getPartitionFinalizationReport();
-            
-            for (ProcessManager.PartitionFinalizationInfo info : report) {
-                Partition partition = processManager.findPartitionByName(info.getName());
-                
-                String formattedSize = numberFormatter.format(info.getSize());
-                String formattedInitialLimit = numberFormatter.format(partition != null ? partition.getInitialLimit() : 0);
-                String formattedFinalLimit = numberFormatter.format(partition != null ? partition.getFinalLimit() : 0);
-                String formattedTime = numberFormatter.format(info.getTotalTime());
-                
-                resultTableModels[10].addRow(new Object[] {
-                        info.getName(),
-                        formattedSize,
-                        formattedInitialLimit,  // ← NUEVO
-                        formattedFinalLimit,    // ← NUEVO
-                        info.getProcessNames(),
-                        formattedTime
-                });
-            }
-            return;
-        }
+    // Se arma en el hilo de la simulación (ver GuiLogFeed): sin NumberFormat compartido
+    private static String formatLiveLog(Log log) {
+        return log.getTick() + "  " + log.getFilter().getDescription() + "  " + log.getProcessName()
+                + "  t=" + log.getRemainingTime()
+                + (log.getPartitionId() >= 0 ? "  " + log.getPartitionName() : "");
+    }
 
-        if (tableIndex == 11) {
-            resultTableModels[11].setRowCount(0);
-            List<Log> logs = processManager.getLogsByFilter(filters[tableIndex]);
-            
-            for (Log log : logs) {
-                String formattedProcessSize = numberFormatter.format(log.getSize());
-                
-                String formattedPartitionSize = "N/A";
-                String exceedByMessage = "Proceso no cabe en ninguna partición";
-                
-                if (log.getPartition() != null) {
-                    formattedPartitionSize = numberFormatter.format(log.getPartition().getSize());
-                    long exceedBy = log.getSize() - log.getPartition().getSize();
-                    String formattedExceedBy = numberFormatter.format(exceedBy);
-                    exceedByMessage = "El proceso excede el tamaño de la partición en: " + formattedExceedBy;
-                }
-                
-                resultTableModels[11].addRow(new Object[] {
-                        log.getProcessName(),
-                        formattedProcessSize,
-                        log.getPartitionName(),
-                        formattedPartitionSize,
-                        exceedByMessage
-                });
-            }
+    private void showLiveLogs(List<String> lines) {
+        liveLogArea.setText(String.join("\n", lines));
+        liveLogArea.setCaretPosition(liveLogArea.getDocument().getLength());
+    }
 
-            JTable table = (JTable) ((JScrollPane) resultsPanel.getComponent(11)).getViewport().getView();
-            table.getColumnModel().getColumn(0).setPreferredWidth(100);
-            table.getColumnModel().getColumn(1).setPreferredWidth(120);
-            table.getColumnModel().getColumn(2).setPreferredWidth(100);
-            table.getColumnModel().getColumn(3).setPreferredWidth(150);
-            table.getColumnModel().getColumn(4).setPreferredWidth(200);
+    private void cancelSimulation() {
+        processManager.cancelSimulation();
+        btnCancelSimulation.setEnabled(false);
+        simulationProgress.setString("Cancelando...");
+    }
 
-            return;
+    // Mientras corre no se pueden modificar procesos ni particiones
+    private void setSimulationRunning(boolean running) {
+        setEnabledRecursively(leftTabbedPane, !running);
+        btnSimulate.setEnabled(!running);
+        btnReset.setEnabled(!running);
+        btnCancelSimulation.setEnabled(running);
+        simulationProgress.setValue(0);
+        simulationProgress.setString("");
+        simulationProgress.setVisible(running);
+        if (running) {
+            progressTimer.start();
+        } else {
+            progressTimer.stop();
         }
-        
-        if (tableIndex == 12) {
-            resultTableModels[12].setRowCount(0);
-            ArrayList<Condensation> condensations = processManager.getCondensations();
-            
-            for (Condensation cond : condensations) {
-                String formattedSize = numberFormatter.format(cond.getSize());
-                
-                StringBuilder partitionNames = new StringBuilder();
-                ArrayList<Partition> partitions = cond.getPartitions();
-                for (int i = 0; i < partitions.size(); i++) {
-                    partitionNames.append(partitions.get(i).getName());
-                    if (i < partitions.size() - 1) {
-                        partitionNames.append(", ");
-                    }
-                }
-                
-                resultTableModels[12].addRow(new Object[] {
-                        cond.getName(),
-                        formattedSize,
-                        partitionNames.toString()
-                });
+    }
+
+    private void setEnabledRecursively(Component component, boolean enabled) {
+        component.setEnabled(enabled);
+        if (component instanceof Container container) {
+            for (Component child : container.getComponents()) {
+                setEnabledRecursively(child, enabled);
             }
-            return;
         }
-        
-        // ← NUEVO: Tabla de Compactaciones (índice 13)
-        if (tableIndex == 13) {
-            resultTableModels[13].setRowCount(0);
-            ArrayList<Compactation> compactations = processManager.getCompactations();
-            
-            for (Compactation comp : compactations) {
-                String formattedSize = numberFormatter.format(comp.getSize());
-                String formattedInitialLimit = numberFormatter.format(
-                    comp.getPartitionCreated() != null ? comp.getPartitionCreated().getInitialLimit() : 0
-                );
-                String formattedFinalLimit = numberFormatter.format(
-                    comp.getPartitionCreated() != null ? comp.getPartitionCreated().getFinalLimit() : 0
-                );
-                String reason = comp.isForExpired() ? "Expiración de tiempo" : "Finalización de proceso";
-                
-                resultTableModels[13].addRow(new Object[] {
-                        comp.getName(),
-                        formattedSize,
-                        comp.getProcess() != null ? comp.getProcess().getName() : "N/A",
-                        comp.getPartitionCreated() != null ? comp.getPartitionCreated().getName() : "N/A",
-                        formattedInitialLimit,
-                        formattedFinalLimit,
-                        reason
-                });
-            }
+    }
+
+    private void updateSimulationProgress() {
+        if (processManager.isCancelRequested()) {
             return;
         }
-        
-        // Tabla especial para Inicial (índice 0)
-        if (tableIndex == 0) {
-            resultTableModels[0].setRowCount(0);
-            for (model.Process p : processManager.getInitialProcesses()) {
-                String formattedTime = numberFormatter.format(p.getOriginalTime());
-                String formattedSize = numberFormatter.format(p.getSize());
-
-                resultTableModels[0].addRow(new Object[] {
-                        p.getName(),
-                        formattedTime,
-                        p.getStatusString(),
-                        formattedSize,
-                        "Asignación dinámica",
-                        0
-                });
-            }
+        long estimated = Math.max(1, processManager.getEstimatedQuanta());
+        long processed = Math.min(processManager.getProcessedQuanta(), estimated);
+        simulationProgress.setValue((int) (processed * 1000 / estimated));
+        simulationProgress.setString(numberFormatter.format(processed) + " / "
+                + numberFormatter.format(estimated) + " quantums");
+    }
+
+    // Mostrar una tabla de resultados, armándola si todavía no tiene el resultado actual
+    private void showResultTable(int tableIndex) {
+        if (!resultTableLoaded[tableIndex]) {
+            updateResultTable(tableIndex);
+            resultTableLoaded[tableIndex] = true;
+        }
+        cardLayout.show(resultsPanel, tableNames[tableIndex]);
+    }
+
+    // Después de una corrida o de limpiar: las tablas sueltan el resultado anterior
+    // y se vuelven a armar la próxima vez que se muestren
+    private void invalidateResultTables() {
+        for (int i = 0; i < resultTableModels.length; i++) {
+            resultTableModels[i].clear();
+            resultTableLoaded[i] = false;
+        }
+    }
+
+    // ← MODIFICADO: Actualizar tabla de resultados con límites y compactaciones
+    private void updateResultTable(int tableIndex) {
+        if (simulationResult == null) {
+            resultTableModels[tableIndex].clear();
             return;
         }
 
-        // Resto de tablas (logs)
-        List<Log> logs = processManager.getLogsByFilter(filters[tableIndex]);
-        resultTableModels[tableIndex].setRowCount(0);
+        switch (tableIndex) {
+            case 0 -> initialResultModel.setRowCount(simulationResult.getProcessCount());
+            case 9 -> partitionResultModel.setRows(simulationResult.getPartitions());
+            case 10 -> finalizationResultModel.setRows(simulationResult.getPartitionFinalizationReport());
+            case 12 -> condensationResultModel.setRows(simulationResult.getCondensations());
+            case 13 -> compactationResultModel.setRows(simulationResult.getCompactations());
+            // Resto de tablas (logs)
+            default -> logResultModel(tableIndex).setRows(simulationResult.getLogsByFilter(filters[tableIndex]));
+        }
+    }
 
-        for (Log log : logs) {
-            String formattedTime = numberFormatter.format(log.getRemainingTime());
-            String formattedSize = numberFormatter.format(log.getSize());
-            
-            String partitionInfo;
-            
-            if (filters[tableIndex] == Filter.FINALIZADO) {
-                partitionInfo = log.getPartitionHistoryString();
-            } else {
-                partitionInfo = log.getPartitionName();
-            }
+    // Las tablas de logs (1 a 8 y 11) se crean como ResultTableModel<Log>
+    @SuppressWarnings("unchecked")
+    private ResultTableModel<Log> logResultModel(int tableIndex) {
+        return (ResultTableModel<Log>) resultTableModels[tableIndex];
+    }
 
-            resultTableModels[tableIndex].addRow(new Object[] {
-                    log.getProcessName(),
-                    formattedTime,
-                    log.getStatusString(),
-                    formattedSize,
-                    partitionInfo,
-                    log.getCycleCount()
-            });
+    private String partitionNames(List<Partition> partitions) {
+        StringBuilder partitionNames = new StringBuilder();
+        for (int i = 0; i < partitions.size(); i++) {
+            partitionNames.append(partitions.get(i).getName());
+            if (i < partitions.size() - 1) {
+                partitionNames.append(", ");
+            }
         }
+        return partitionNames.toString();
     }
 
     private void applyPartitionFilter() {
         String selectedPartition = (String) cmbPartitionFilter.getSelectedItem();
         
-        if (selectedPartition == null || selectedPartition.equals("Todas las particiones")) {
+        if (selectedPartition == null || selectedPartition.equals("Todas las particiones")
+                || simulationResult == null) {
             updateResultTable(1);
+            resultTableLoaded[1] = true;
         } else {
-            resultTableModels[1].setRowCount(0);
-            List<Log> logs = processManager.getLogsByFilterAndPartition(Filter.LISTO, selectedPartition);
-            
-            for (Log log : logs) {
-                String formattedTime = numberFormatter.format(log.getRemainingTime());
-                String formattedSize = numberFormatter.format(log.getSize());
-
-                resultTableModels[1].addRow(new Object[] {
-                        log.getProcessName(),
-                        formattedTime,
-                        log.getStatusString(),
-                        formattedSize,
-                        log.getPartitionName(),
-                        log.getCycleCount()
-                });
-            }
+            logResultModel(1).setRows(simulationResult.getLogsByFilterAndPartition(Filter.LISTO, selectedPartition));
+            // El botón Listo vuelve a mostrar todas las particiones
+            resultTableLoaded[1] = false;
         }
         
         cardLayout.show(resultsPanel, tableNames[1]);
@@ -1393,13 +1441,12 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                 showInfo("Partición eliminada");
             } else if (currentAction.equals("CLEAR_ALL")) {
                 processManager.clearAll();
+                simulationResult = null;
                 updateProcessTable();
                 updatePartitionTable();
                 updatePartitionFilterComboBox();
 
-                for (DefaultTableModel model : resultTableModels) {
-                    model.setRowCount(0);
-                }
+                invalidateResultTables();
 
                 clearProcessForm();
                 clearPartitionForm();
@@ -0,0 +1,89 @@
+package view;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+// Modelo de tabla virtual: no copia las filas, lee cada celda de la lista del
+// resultado cuando la tabla la pinta. Con un IndexReader no hay lista: cada
+// celda se lee por índice de fila (datos guardados por columnas).
+public class ResultTableModel<T> extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    // Valor de una columna para una fila
+    public interface RowReader<T> {
+        Object valueAt(T row, int column);
+    }
+
+    // Valor de una columna para un índice de fila
+    public interface IndexReader {
+        Object valueAt(int row, int column);
+    }
+
+    private String[] columnNames;
+    private Class<?>[] columnClasses;   // Los números van como Long: los formatea el renderizador
+    private RowReader<T> reader;
+    private IndexReader indexReader;    // Solo en las tablas por índice
+    private List<T> rows;
+    private int rowCount;               // Filas de la tabla por índice
+
+    public ResultTableModel(String[] columnNames, Class<?>[] columnClasses, RowReader<T> reader) {
+        this.columnNames = columnNames;
+        this.columnClasses = columnClasses;
+        this.reader = reader;
+        this.rows = Collections.emptyList();
+    }
+
+    // Tabla sin objetos por fila: las filas son 0..rowCount-1
+    public static ResultTableModel<Void> byIndex(String[] columnNames, Class<?>[] columnClasses,
+            IndexReader indexReader) {
+        ResultTableModel<Void> model = new ResultTableModel<>(columnNames, columnClasses, null);
+        model.indexReader = indexReader;
+        return model;
+    }
+
+    // Tablas por índice: los datos no deben cambiar mientras la tabla los muestra
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+        fireTableDataChanged();
+    }
+
+    // La lista no debe cambiar mientras la tabla la muestra (vistas del resultado)
+    public void setRows(List<T> rows) {
+        this.rows = rows;
+        fireTableDataChanged();
+    }
+
+    public void clear() {
+        rowCount = 0;
+        setRows(Collections.emptyList());
+    }
+
+    @Override
+    public int getRowCount() {
+        return indexReader != null ? rowCount : rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (indexReader != null) {
+            return indexReader.valueAt(row, column);
+        }
+        return reader.valueAt(rows.get(row), column);
+    }
+}